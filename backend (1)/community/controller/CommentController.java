@@ -13,12 +13,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import com.example.community.dto.CommentReplyDTO;
 import com.example.community.model.Comment;
 import com.example.community.model.Reply;
 import com.example.community.service.CommentService;
 import com.example.login_signup_back.security.JwtTokenProvider;
 import com.example.mapper.Mappers;
+import com.example.service.DataVersionClock;
 import jakarta.servlet.http.HttpServletRequest;
 
 /**
@@ -34,6 +36,9 @@ public class CommentController {
 	@Autowired
 	private CommentService commentService;
 
+	@Autowired
+	private DataVersionClock dataVersionClock;
+
     /**
      * # 작성자 : 이재훈
      * # 작성일 : 2024-10-08
@@ -70,8 +75,12 @@ public class CommentController {
      * # 반환값 : List<Comment> - 게시물에 달린 댓글 목록
      */
 	@GetMapping("/post/{postId}")
-	public List<Comment> getCommentsByPostId(@PathVariable int postId) {
+	public List<Comment> getCommentsByPostId(@PathVariable int postId, WebRequest request) {
 
+		// 게시물마다 다른 ETag (다른 게시물의 댓글 목록 ETag 로 304 가 나지 않도록 postId 를 덧붙임)
+		if (dataVersionClock.checkNotModified(DataVersionClock.COMMUNITY, String.valueOf(postId), "comments/post", request)) {
+			return null;
+		}
 		return commentService.getCommentsByPostId(postId);
 	}
 
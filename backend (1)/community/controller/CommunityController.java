@@ -16,12 +16,14 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.community.dto.PostCommentStatsDto;
 import com.example.community.dto.PostWithCommentCountDTO;
 import com.example.community.model.Community;
 import com.example.community.service.CommunityService;
+import com.example.service.DataVersionClock;
 import com.example.service.FileStorageService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.ws.rs.core.HttpHeaders;
@@ -39,6 +41,9 @@ public class CommunityController {
 	@Autowired
 	private CommunityService communityService;
 
+	@Autowired
+	private DataVersionClock dataVersionClock;
+
 	private final FileStorageService fileStorageService;
 
     /**
@@ -62,8 +67,12 @@ public class CommunityController {
      * # 반환값 : List<Community> - 모든 게시물 목록
      */
 	@GetMapping("/posts")
-	public List<Community> getAllPosts() {
+	public List<Community> getAllPosts(WebRequest request) {
 		
+		// 마지막 글/댓글 쓰기 이후 같은 목록을 받은 적 있으면 조회 없이 304 (조회수만 바뀐 경우는 그대로 304)
+		if (dataVersionClock.checkNotModified(DataVersionClock.COMMUNITY, "community/posts", request)) {
+			return null;
+		}
 		return communityService.getAllCommunityPosts();
 	}
 
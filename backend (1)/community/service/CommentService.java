@@ -11,6 +11,7 @@ import com.example.community.model.Comment;
 import com.example.community.model.Reply;
 import com.example.login_signup_back.security.JwtTokenProvider;
 import com.example.mapper.Mappers;
+import com.example.service.DataVersionClock;
 import jakarta.servlet.http.HttpServletRequest;
 
 /**
@@ -28,6 +29,9 @@ public class CommentService {
 	@Autowired
 	private Mappers mappers;
 
+	@Autowired
+	private DataVersionClock dataVersionClock;  // 쓰기 후 커뮤니티 버전 증가 (조회 ETag)
+
     /**
      * # 작성자 : 이재훈
      * # 작성일 : 2024-10-08
@@ -102,6 +106,7 @@ public class CommentService {
 		}
 		comment.setPostCommentNum(maxCommentNum);
 		mappers.createComment(comment);
+		dataVersionClock.bump(DataVersionClock.COMMUNITY);
 	}
 
     /**
@@ -124,6 +129,7 @@ public class CommentService {
 		System.out.println(userUniqueNumber);
 		
 		mappers.updateComment(comment);
+		dataVersionClock.bump(DataVersionClock.COMMUNITY);
 	}
 
     /**
@@ -157,6 +163,7 @@ public class CommentService {
 			mappers.updateCommentNumber(newPostCommentNum, comment.getPostCommentNum(), postId);
 			comment.setPostCommentNum(newPostCommentNum); // 로컬 객체 업데이트
 		}
+		dataVersionClock.bump(DataVersionClock.COMMUNITY);
 	}
 
     /**
@@ -212,6 +219,7 @@ public class CommentService {
 
 		// 대댓글 생성
 		mappers.createReply(replyComment);
+		dataVersionClock.bump(DataVersionClock.COMMUNITY);
 	}
 
     /**
@@ -235,6 +243,7 @@ public class CommentService {
 		System.out.println(userUniqueNumber);
 		
 		mappers.updateReply(replyComment);
+		dataVersionClock.bump(DataVersionClock.COMMUNITY);
 	}
 
     /**
@@ -263,6 +272,7 @@ public class CommentService {
             mappers.updateReplyNumber(newReplyId, reply.getReplyId(), postId, postCommentNum);
             reply.setReplyId(newReplyId);
 		}
+		dataVersionClock.bump(DataVersionClock.COMMUNITY);
 	}
 
     /**
@@ -292,5 +302,6 @@ public class CommentService {
 		
 		// 댓글 삭제
 		mappers.deleteAdminComment(postId, postCommentNum);
+		dataVersionClock.bump(DataVersionClock.COMMUNITY);
 	}
 }
@@ -16,6 +16,7 @@ import com.example.community.dto.PostWithCommentCountDTO;
 import com.example.community.model.Community;
 import com.example.login_signup_back.security.JwtTokenProvider;
 import com.example.mapper.Mappers;
+import com.example.service.DataVersionClock;
 import jakarta.servlet.http.HttpServletRequest;
 
 /**
@@ -33,6 +34,9 @@ public class CommunityService {
 	@Autowired
 	private Mappers mappers;
 
+	@Autowired
+	private DataVersionClock dataVersionClock;  // 쓰기 후 커뮤니티 버전 증가 (조회 ETag)
+
 	// 파일 저장 경로 설정
 	private static final String UPLOAD_DIR = "C:/DEV/uploads";
 
@@ -83,6 +87,8 @@ public class CommunityService {
      */
 	public Community getCommunityPostById(int postId) {
 		
+		// 조회수 증가는 버전을 올리지 않음 (글을 볼 때마다 목록/댓글 ETag 가 전부 무효가 되므로)
+		// 목록의 조회수는 다음 글/댓글 쓰기 때 반영
 		mappers.increasePostView(postId);
 		return mappers.getCommunityPostById(postId);
 	}
@@ -113,6 +119,7 @@ public class CommunityService {
 			community.setPostImgPath("/uploads/" + new File(filePath).getName());
 		}
 		mappers.createCommunityPost(community);
+		dataVersionClock.bump(DataVersionClock.COMMUNITY);
 	}
 
     /**
@@ -144,6 +151,7 @@ public class CommunityService {
         community.setPostId(postId); // 게시물 ID 설정
         community.setCommChangeDate(LocalDateTime.now()); // 수정 날짜 업데이트
         mappers.updateCommunityPost(community); // 게시물 수정
+        dataVersionClock.bump(DataVersionClock.COMMUNITY);
     }
 
     /**
@@ -167,6 +175,7 @@ public class CommunityService {
         }
 
         mappers.deleteCommunityPost(postId); // 게시물 삭제
+        dataVersionClock.bump(DataVersionClock.COMMUNITY);
     }
 
     /**
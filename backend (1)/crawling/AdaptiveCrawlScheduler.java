@@ -0,0 +1,133 @@
+package com.example.crawling;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.example.mapper.Mappers;
+import com.example.scheduleresults.model.ScheduleResults;
+
+// 경기 일정에 맞춰 크롤링 주기를 바꾸는 스케쥴러
+// - 오늘 경기가 없으면 다음 날까지 대기
+// - 첫 경기 시작 전(lead-minutes) 까지 대기
+// - 진행 중인 경기가 있으면 짧은 주기(live-interval-seconds)로 폴링
+// - 시작 전 경기만 남았으면 다음 경기 시작 시각까지, 시각이 지났는데 시작을 안 했으면(우천 지연 등) idle-interval-minutes 마다 확인
+// - 모든 경기가 끝나서 저장되거나 취소/서스펜디드로 끝나면 다음 날까지 대기
+@Component
+public class AdaptiveCrawlScheduler {
+
+    @Autowired
+    private Mappers mapper;
+
+    @Autowired
+    private Crawling crawling;
+
+    @Autowired
+    private LiveGamePoller liveGamePoller;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Value("${crawling.scheduler.enabled:false}")
+    private boolean enabled;
+
+    @Value("${crawling.scheduler.lead-minutes:10}")
+    private long leadMinutes;
+
+    @Value("${crawling.scheduler.live-interval-seconds:30}")
+    private long liveIntervalSeconds;
+
+    @Value("${crawling.scheduler.idle-interval-minutes:10}")
+    private long idleIntervalMinutes;
+
+    private final ZoneId zone = ZoneId.systemDefault();
+    private ScheduledFuture<?> next;
+    private volatile LocalDateTime nextRunAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            scheduleAt(LocalDateTime.now());
+        }
+    }
+
+    public void tick() {
+        LocalDateTime runAt;
+        try {
+            runAt = run(LocalDateTime.now());
+        } catch (Exception e) {
+            System.out.println("크롤링 스케쥴러 오류: " + e.getMessage());
+            runAt = LocalDateTime.now().plusMinutes(idleIntervalMinutes);
+        }
+        scheduleAt(runAt);
+    }
+
+    // 지금 할 일을 하고 다음 실행 시각 반환
+    LocalDateTime run(LocalDateTime now) throws Exception {
+        LocalDate today = now.toLocalDate();
+        LocalDateTime tomorrow = today.plusDays(1).atStartOfDay();
+
+        List<LocalDateTime> starts = getStartTimes(today);
+        if (starts.isEmpty()) {
+            return tomorrow;
+        }
+        LocalDateTime windowStart = starts.get(0).minusMinutes(leadMinutes);
+        if (now.isBefore(windowStart)) {
+            return windowStart;
+        }
+
+        LiveGamePoller.PollResult result = liveGamePoller.poll(today, crawling.getDefaultEngine(), crawling.getDefaultSeason());
+
+        if (result.getLive() > 0) {
+            return now.plusSeconds(liveIntervalSeconds);
+        }
+        if (result.getPending() == 0 && result.getFinished() + result.getTerminal() > 0) {
+            // 모든 경기 종료 (취소, 서스펜디드 포함)
+            return tomorrow;
+        }
+        // 시작 전 경기만 남음
+        for (LocalDateTime start : starts) {
+            LocalDateTime wake = start.minusMinutes(leadMinutes);
+            if (wake.isAfter(now)) {
+                return wake;
+            }
+        }
+        LocalDateTime idle = now.plusMinutes(idleIntervalMinutes);
+        return idle.isBefore(tomorrow) ? idle : tomorrow;
+    }
+
+    // schedule 테이블의 오늘 경기 시작 시각 (빠른 순)
+    private List<LocalDateTime> getStartTimes(LocalDate date) {
+        List<LocalDateTime> starts = new ArrayList<>();
+        for (ScheduleResults game : mapper.selectMainSchedule(date.toString())) {
+            starts.add(LocalDateTime.of(LocalDate.parse(game.getGameDate()), LocalTime.parse(game.getTime())));
+        }
+        Collections.sort(starts);
+        return starts;
+    }
+
+    private synchronized void scheduleAt(LocalDateTime runAt) {
+        if (next != null) {
+            next.cancel(false);
+        }
+        nextRunAt = runAt;
+        next = taskScheduler.schedule(this::tick, runAt.atZone(zone).toInstant());
+    }
+
+    // 다음 실행 예정 시각 (관리자 확인용)
+    public LocalDateTime getNextRunAt() {
+        return nextRunAt;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.crawling;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+// 백필 진행 상황 파일
+// 끝난 날짜를 한 줄씩 이어서 기록하고, 다시 시작할 때 읽어서 끝난 날짜는 건너뜀
+public class BackfillCheckpoint {
+
+    private final Path file;
+    private final Set<LocalDate> done = new HashSet<>();
+
+    public BackfillCheckpoint(Path file) throws IOException {
+        this.file = file;
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    done.add(LocalDate.parse(line.trim()));
+                }
+            }
+        } else {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+    }
+
+    public synchronized boolean isDone(LocalDate date) {
+        return done.contains(date);
+    }
+
+    public synchronized int doneCount() {
+        return done.size();
+    }
+
+    public synchronized void markDone(LocalDate date) throws IOException {
+        if (done.add(date)) {
+            Files.write(file, (date + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.crawling;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 백필 작업 하나의 진행 상태 (관리자 API 응답용)
+public class BackfillJob {
+
+    public enum State { RUNNING, FINISHED, CANCELLED }
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final String engine;
+    private final String season;
+    private final int totalDays;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicInteger completedDays = new AtomicInteger();
+    private final AtomicInteger skippedDays = new AtomicInteger();
+    private final AtomicInteger emptyDays = new AtomicInteger();
+    private final AtomicInteger insertedGames = new AtomicInteger();
+    private final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+    private volatile State state = State.RUNNING;
+    private volatile LocalDateTime finishedAt;
+
+    public BackfillJob(LocalDate from, LocalDate to, String engine, String season, int totalDays) {
+        this.from = from;
+        this.to = to;
+        this.engine = engine;
+        this.season = season;
+        this.totalDays = totalDays;
+    }
+
+    void dayCompleted(int inserted) {
+        completedDays.incrementAndGet();
+        insertedGames.addAndGet(inserted);
+    }
+
+    void daySkipped() {
+        skippedDays.incrementAndGet();
+    }
+
+    // 크롤링은 됐지만 끝난 경기가 없어서 체크포인트에 남기지 않은 날
+    void dayEmpty() {
+        emptyDays.incrementAndGet();
+    }
+
+    void dayFailed(LocalDate date, Exception e) {
+        failures.add(date + " : " + e.getMessage());
+    }
+
+    void finish(State state) {
+        this.state = state;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+    public LocalDate getTo() {
+        return to;
+    }
+    public String getEngine() {
+        return engine;
+    }
+    public String getSeason() {
+        return season;
+    }
+    public int getTotalDays() {
+        return totalDays;
+    }
+    public int getCompletedDays() {
+        return completedDays.get();
+    }
+    public int getSkippedDays() {
+        return skippedDays.get();
+    }
+    public int getEmptyDays() {
+        return emptyDays.get();
+    }
+    public int getInsertedGames() {
+        return insertedGames.get();
+    }
+    public List<String> getFailures() {
+        synchronized (failures) {
+            return new ArrayList<>(failures);
+        }
+    }
+    public State getState() {
+        return state;
+    }
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+}
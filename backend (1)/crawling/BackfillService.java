@@ -0,0 +1,131 @@
+package com.example.crawling;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+// 기간을 지정해서 지난 경기들을 한꺼번에 채워 넣는 백필
+// - 기간을 하루 단위 작업으로 나눠서 정해진 개수의 작업 스레드로 동시에 크롤링
+// - 사이트 부하는 HostRateLimiter 가, 브라우저 수는 WebDriverPool 이 제한
+// - 끝난 날짜는 체크포인트 파일에 남겨서, 중간에 멈췄다 다시 시작하면 이어서 진행
+//   (체크포인트는 엔진 + 시즌 + 기간별로 따로, 지난 날짜 중 끝난 경기가 있었던 날만 기록)
+@Component
+public class BackfillService {
+
+    @Autowired
+    private Crawling crawling;
+
+    private final int workers;
+    private final Path checkpointDir;
+
+    private BackfillJob currentJob;
+    private ExecutorService currentPool;
+
+    public BackfillService(@Value("${crawling.backfill.workers:4}") int workers,
+                           @Value("${crawling.backfill.checkpoint-dir:crawling-checkpoints}") String checkpointDir) {
+        this.workers = workers;
+        this.checkpointDir = Paths.get(checkpointDir).toAbsolutePath().normalize();
+    }
+
+    // 백필 시작 (이미 진행 중이면 예외)
+    public synchronized BackfillJob start(LocalDate from, LocalDate to, String engine, String season) throws IOException {
+        if (currentJob != null && currentJob.getState() == BackfillJob.State.RUNNING) {
+            throw new IllegalStateException("이미 진행 중인 백필 작업이 있습니다.");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다.");
+        }
+        crawling.getCrawler(engine); // 없는 엔진이면 여기서 예외
+
+        BackfillCheckpoint checkpoint = new BackfillCheckpoint(checkpointDir.resolve(checkpointFileName(engine, season, from, to)));
+
+        List<LocalDate> days = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            days.add(day);
+        }
+        BackfillJob job = new BackfillJob(from, to, engine, season, days.size());
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "backfill-" + threadNumber.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (LocalDate day : days) {
+            if (checkpoint.isDone(day)) {
+                job.daySkipped();
+                continue;
+            }
+            tasks.add(CompletableFuture.runAsync(() -> crawlDay(job, checkpoint, day), pool));
+        }
+
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).whenComplete((result, e) -> {
+            synchronized (this) {
+                if (job.getState() == BackfillJob.State.RUNNING) {
+                    job.finish(BackfillJob.State.FINISHED);
+                }
+            }
+            pool.shutdown();
+        });
+
+        currentJob = job;
+        currentPool = pool;
+        return job;
+    }
+
+    public synchronized BackfillJob getCurrentJob() {
+        return currentJob;
+    }
+
+    // 진행 중인 백필 중단 (체크포인트는 남아있으므로 같은 기간으로 다시 시작하면 이어서 진행)
+    @PreDestroy
+    public synchronized void cancel() {
+        if (currentJob != null && currentJob.getState() == BackfillJob.State.RUNNING) {
+            currentPool.shutdownNow();
+            currentJob.finish(BackfillJob.State.CANCELLED);
+        }
+    }
+
+    // 같은 기간이라도 시즌이 다르면 저장되는 내용이 다르므로 체크포인트도 따로 둠
+    static String checkpointFileName(String engine, String season, LocalDate from, LocalDate to) {
+        return "backfill_" + engine + "_" + season + "_" + from + "_" + to + ".txt";
+    }
+
+    private void crawlDay(BackfillJob job, BackfillCheckpoint checkpoint, LocalDate day) {
+        if (job.getState() != BackfillJob.State.RUNNING) {
+            return;
+        }
+        try {
+            // 다른 날 페이지를 읽었으면 crawlDay 가 예외를 던지므로 (ScoreBoardCrawler.requireDate) 아래까지 오지 않음
+            Crawling.DayResult result = crawling.crawlDay(day, job.getEngine(), job.getSeason(), "backfill");
+            // 오늘 이후이거나 끝난 경기가 없는 날 (경기 없는 날, 전부 취소, 페이지 로딩 실패 등) 은
+            // 체크포인트에 남기지 않고 다음 실행 때 다시 크롤링
+            if (day.isBefore(LocalDate.now()) && result.getComplete() > 0) {
+                checkpoint.markDone(day);
+            } else {
+                job.dayEmpty();
+            }
+            job.dayCompleted(result.getInserted());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            System.out.println("백필 실패 " + day + " : " + e.getMessage());
+            job.dayFailed(day, e);
+        }
+    }
+}
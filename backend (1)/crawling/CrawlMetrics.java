@@ -0,0 +1,134 @@
+package com.example.crawling;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 크롤링 계측
+// - 단계별 소요 시간 히스토그램 (페이지 로드, 달력 선택, 경기 추출, 중복 확인, DB 저장)
+// - 경기 수 카운터 (파싱, 저장, 건너뜀, 파싱 실패)
+// - 최근 크롤링 기록 (history-size 개까지만 보관)
+// 진행 중인 기록은 스레드별로 들고 있어서, 크롤러 안에서는 stage() 만 호출하면 됨
+@Component
+public class CrawlMetrics {
+
+    public static final String PAGE_LOAD = "page_load";
+    public static final String DATE_SELECT = "date_select";
+    public static final String EXTRACT_GAME = "extract_game";
+    public static final String DEDUPE = "dedupe";
+    public static final String DB_WRITE = "db_write";
+
+    public static final String GAMES_PARSED = "games_parsed";
+    public static final String GAMES_INSERTED = "games_inserted";
+    public static final String GAMES_SKIPPED = "games_skipped";
+    public static final String PARSE_FAILURES = "parse_failures";
+
+    private final int historySize;
+    private final Map<String, LatencyHistogram> stages = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Deque<CrawlRun> history = new ArrayDeque<>();
+    private final AtomicLong runIds = new AtomicLong();
+    private final ThreadLocal<CrawlRun> currentRun = new ThreadLocal<>();
+
+    public CrawlMetrics(@Value("${crawling.metrics.history-size:100}") int historySize) {
+        this.historySize = historySize;
+        for (String stage : new String[] { PAGE_LOAD, DATE_SELECT, EXTRACT_GAME, DEDUPE, DB_WRITE }) {
+            stages.put(stage, new LatencyHistogram());
+        }
+        for (String counter : new String[] { GAMES_PARSED, GAMES_INSERTED, GAMES_SKIPPED, PARSE_FAILURES }) {
+            counters.put(counter, new LongAdder());
+        }
+    }
+
+    // 크롤링 기록 시작 (같은 스레드에서 finishRun 까지)
+    public CrawlRun startRun(String kind, String engine, LocalDate date) {
+        CrawlRun run = new CrawlRun(runIds.incrementAndGet(), kind, engine, date);
+        currentRun.set(run);
+        return run;
+    }
+
+    // 크롤링 기록 종료, e 는 실패했을 때의 예외 (성공이면 null)
+    public void finishRun(CrawlRun run, Exception e) {
+        currentRun.remove();
+        run.finish(e);
+        synchronized (history) {
+            history.addFirst(run);
+            while (history.size() > historySize) {
+                history.removeLast();
+            }
+        }
+    }
+
+    // startNanos (System.nanoTime) 부터 지금까지를 해당 단계 시간으로 기록
+    public void stage(String stage, long startNanos) {
+        long nanos = System.nanoTime() - startNanos;
+        stages.computeIfAbsent(stage, s -> new LatencyHistogram()).record(nanos);
+        CrawlRun run = currentRun.get();
+        if (run != null) {
+            run.addStage(stage, nanos);
+        }
+    }
+
+    public void parsed(int count) {
+        count(GAMES_PARSED, count);
+        CrawlRun run = currentRun.get();
+        if (run != null) {
+            run.addParsed(count);
+        }
+    }
+
+    public void inserted(int count) {
+        count(GAMES_INSERTED, count);
+        CrawlRun run = currentRun.get();
+        if (run != null) {
+            run.addInserted(count);
+        }
+    }
+
+    public void skipped(int count) {
+        count(GAMES_SKIPPED, count);
+        CrawlRun run = currentRun.get();
+        if (run != null) {
+            run.addSkipped(count);
+        }
+    }
+
+    public void parseFailed() {
+        count(PARSE_FAILURES, 1);
+    }
+
+    private void count(String counter, int count) {
+        counters.computeIfAbsent(counter, c -> new LongAdder()).add(count);
+    }
+
+    public List<CrawlRun> getRuns() {
+        synchronized (history) {
+            return new ArrayList<>(history);
+        }
+    }
+
+    // 관리자 API 응답용 (단계별 히스토그램 + 카운터 + 최근 기록)
+    public Map<String, Object> snapshot() {
+        Map<String, Object> stageSnapshots = new LinkedHashMap<>();
+        stages.forEach((stage, histogram) -> stageSnapshots.put(stage, histogram.snapshot()));
+
+        Map<String, Long> counterValues = new LinkedHashMap<>();
+        counters.forEach((counter, adder) -> counterValues.put(counter, adder.sum()));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("stages", stageSnapshots);
+        result.put("counters", counterValues);
+        result.put("runs", getRuns());
+        return result;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.crawling;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 크롤링 한 번의 기록 (관리자 API 응답용)
+// 한 스레드에서만 채우고, 끝난 뒤에는 읽기만 함
+public class CrawlRun {
+
+    private final long id;
+    private final String kind;
+    private final String engine;
+    private final LocalDate date;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Long> stageNanos = new LinkedHashMap<>();
+    private long durationMillis;
+    private int parsed;
+    private int inserted;
+    private int skipped;
+    private String error;
+
+    CrawlRun(long id, String kind, String engine, LocalDate date) {
+        this.id = id;
+        this.kind = kind;
+        this.engine = engine;
+        this.date = date;
+    }
+
+    void addStage(String stage, long nanos) {
+        stageNanos.merge(stage, nanos, Long::sum);
+    }
+
+    void addParsed(int count) {
+        parsed += count;
+    }
+
+    void addInserted(int count) {
+        inserted += count;
+    }
+
+    void addSkipped(int count) {
+        skipped += count;
+    }
+
+    void finish(Exception e) {
+        durationMillis = (System.nanoTime() - startNanos) / 1_000_000L;
+        error = e == null ? null : e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+
+    public long getId() {
+        return id;
+    }
+    // crawl, backfill, live
+    public String getKind() {
+        return kind;
+    }
+    public String getEngine() {
+        return engine;
+    }
+    public LocalDate getDate() {
+        return date;
+    }
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+    // 단계별 합계 (ms)
+    public Map<String, Long> getStageMillis() {
+        Map<String, Long> millis = new LinkedHashMap<>();
+        stageNanos.forEach((stage, nanos) -> millis.put(stage, nanos / 1_000_000L));
+        return Collections.unmodifiableMap(millis);
+    }
+    public int getParsed() {
+        return parsed;
+    }
+    public int getInserted() {
+        return inserted;
+    }
+    public int getSkipped() {
+        return skipped;
+    }
+    public String getError() {
+        return error;
+    }
+}
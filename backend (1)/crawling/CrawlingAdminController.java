@@ -0,0 +1,137 @@
+package com.example.crawling;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.login_signup_back.model.User;
+import com.example.login_signup_back.security.JwtTokenProvider;
+import com.example.mapper.Mappers;
+import com.example.service.DataVersionClock;
+import com.example.service.ResponseCache;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// 크롤링 관리자 API
+// 관리자(role = admin) 가 아니면 403
+@RestController
+@RequestMapping("/api/admin/crawling")
+public class CrawlingAdminController {
+
+    @Autowired
+    private BackfillService backfillService;
+
+    @Autowired
+    private Crawling crawling;
+
+    @Autowired
+    private CrawlMetrics crawlMetrics;
+
+    @Autowired
+    private RecordsCrawler recordsCrawler;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private Mappers mapper;
+
+    @Autowired
+    private DataVersionClock dataVersionClock;
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    // 기간 백필 시작 (예: /api/admin/crawling/backfill?from=2024-03-23&to=2024-10-01&season=정규)
+    @PostMapping("/backfill")
+    public ResponseEntity<?> startBackfill(HttpServletRequest request,
+                                           @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                           @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                           @RequestParam(value = "engine", required = false) String engine,
+                                           @RequestParam(value = "season", defaultValue = "정규") String season) {
+        if (!isAdmin(request)) {
+            return ResponseEntity.status(403).body(null);
+        }
+        try {
+            BackfillJob job = backfillService.start(from, to, engine == null ? crawling.getDefaultEngine() : engine, season);
+            return ResponseEntity.ok(job);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("백필 시작 실패: " + e.getMessage());
+        }
+    }
+
+    // 현재(또는 마지막) 백필 진행 상태
+    @GetMapping("/backfill")
+    public ResponseEntity<BackfillJob> getBackfill(HttpServletRequest request) {
+        if (!isAdmin(request)) {
+            return ResponseEntity.status(403).body(null);
+        }
+        BackfillJob job = backfillService.getCurrentJob();
+        return job == null ? ResponseEntity.noContent().build() : ResponseEntity.ok(job);
+    }
+
+    // 진행 중인 백필 중단
+    @PostMapping("/backfill/cancel")
+    public ResponseEntity<BackfillJob> cancelBackfill(HttpServletRequest request) {
+        if (!isAdmin(request)) {
+            return ResponseEntity.status(403).body(null);
+        }
+        backfillService.cancel();
+        return ResponseEntity.ok(backfillService.getCurrentJob());
+    }
+
+    // 크롤링 계측 (단계별 소요 시간, 경기 수 카운터, 최근 크롤링 기록)
+    @GetMapping("/runs")
+    public ResponseEntity<Map<String, Object>> getRuns(HttpServletRequest request) {
+        if (!isAdmin(request)) {
+            return ResponseEntity.status(403).body(null);
+        }
+        return ResponseEntity.ok(crawlMetrics.snapshot());
+    }
+
+    // 조회 API 304 적중률 (엔드포인트별 hit/miss), 데이터 영역별 버전, 응답 캐시 항목 수
+    @GetMapping("/cache")
+    public ResponseEntity<Map<String, Object>> getCacheStats(HttpServletRequest request) {
+        if (!isAdmin(request)) {
+            return ResponseEntity.status(403).body(null);
+        }
+        Map<String, Object> stats = dataVersionClock.snapshot();
+        stats.put("responseCacheEntries", responseCache.size());
+        return ResponseEntity.ok(stats);
+    }
+
+    // 선수/팀 시즌 기록 갱신 (바뀐 행만 저장, 테이블별 저장한 행 수 반환)
+    @PostMapping("/records")
+    public ResponseEntity<?> refreshRecords(HttpServletRequest request, @RequestParam("year") int year) {
+        if (!isAdmin(request)) {
+            return ResponseEntity.status(403).body(null);
+        }
+        try {
+            return ResponseEntity.ok(recordsCrawler.refresh(year));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("기록 갱신 실패: " + e.getMessage());
+        }
+    }
+
+    private boolean isAdmin(HttpServletRequest request) {
+        Authentication authentication = jwtTokenProvider.resolveAndAuthenticateToken(request);
+        if (authentication == null) {
+            return false;
+        }
+        User currentUser = mapper.findbyAdminUniue(authentication.getName());
+        return currentUser != null && "admin".equals(currentUser.getRole());
+    }
+}
@@ -0,0 +1,503 @@
+package com.example.crawling;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+// 크롤링한 경기 하나의 스냅샷 (불변)
+// 이닝/R/H/E/B 는 int 로 보관하고, 화면에 찍히는 "-" 등은 음수 상수로 표현
+public final class GameSnapshot {
+
+    // 셀이 비어있음 (아직 진행 전)
+    public static final int EMPTY = -1;
+    // "-" (진행하지 않은 이닝)
+    public static final int NOT_PLAYED = -2;
+    // "X" (말 공격 없음)
+    public static final int SKIPPED = -3;
+
+    public static final int MAX_INNINGS = 15;
+
+    // 경기 상태 표시 (strong.flag) 중 경기가 끝났다는 문구
+    public static final String FINAL_STATUS = "경기종료";
+    // 경기종료는 아니지만 오늘은 더 진행되지 않는 상태 (우천취소, 그라운드사정취소, 서스펜디드, 노게임 등)
+    // 우천중단은 재개될 수 있으므로 넣지 않음
+    private static final String[] CALLED_OFF_MARKERS = { "취소", "서스펜디드", "노게임" };
+
+    // 지문 계산용 (64비트 FNV-1a)
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final LocalDate date;
+    private final String dayOfTheWeek;
+    private final LocalTime time;
+    private final String ground;
+    private final String status;
+    private final String pitcherText;
+    private final PitcherDecision decision;
+
+    private final String awayTeam;
+    private final int[] awayInnings;
+    private final int awayRuns;
+    private final int awayHits;
+    private final int awayErrors;
+    private final int awayBalls;
+
+    private final String homeTeam;
+    private final int[] homeInnings;
+    private final int homeRuns;
+    private final int homeHits;
+    private final int homeErrors;
+    private final int homeBalls;
+
+    // getFingerprint() 에서 처음 쓸 때 계산
+    private String fingerprint;
+
+    private GameSnapshot(Builder b) {
+        this.date = b.date;
+        this.dayOfTheWeek = b.dayOfTheWeek;
+        this.time = b.time;
+        this.ground = b.ground;
+        this.status = b.status == null ? "" : b.status;
+        this.pitcherText = b.pitcherText == null ? "" : b.pitcherText;
+        this.decision = PitcherDecisionParser.parse(this.pitcherText);
+        this.awayTeam = b.awayTeam;
+        this.homeTeam = b.homeTeam;
+
+        int awayInningCount = b.awayCount - 4;
+        this.awayInnings = Arrays.copyOf(b.awayCells, awayInningCount);
+        this.awayRuns = b.awayCells[awayInningCount];
+        this.awayHits = b.awayCells[awayInningCount + 1];
+        this.awayErrors = b.awayCells[awayInningCount + 2];
+        this.awayBalls = b.awayCells[awayInningCount + 3];
+
+        int homeInningCount = b.homeCount - 4;
+        this.homeInnings = Arrays.copyOf(b.homeCells, homeInningCount);
+        this.homeRuns = b.homeCells[homeInningCount];
+        this.homeHits = b.homeCells[homeInningCount + 1];
+        this.homeErrors = b.homeCells[homeInningCount + 2];
+        this.homeBalls = b.homeCells[homeInningCount + 3];
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public String getDayOfTheWeek() {
+        return dayOfTheWeek;
+    }
+
+    public LocalTime getTime() {
+        return time;
+    }
+
+    public LocalDateTime getGameDateTime() {
+        return LocalDateTime.of(date, time);
+    }
+
+    public String getGround() {
+        return ground;
+    }
+
+    // 경기 상태 표시 (경기종료, 5회말, 우천취소 등, 없으면 "")
+    public String getStatus() {
+        return status;
+    }
+
+    public String getPitcherText() {
+        return pitcherText;
+    }
+
+    public PitcherDecision getDecision() {
+        return decision;
+    }
+
+    public String getAwayTeam() {
+        return awayTeam;
+    }
+
+    public String getHomeTeam() {
+        return homeTeam;
+    }
+
+    public int getInningCount() {
+        return awayInnings.length;
+    }
+
+    // inning 은 1부터, 없는 이닝은 EMPTY
+    public int getAwayInning(int inning) {
+        return inning <= awayInnings.length ? awayInnings[inning - 1] : EMPTY;
+    }
+
+    public int getHomeInning(int inning) {
+        return inning <= homeInnings.length ? homeInnings[inning - 1] : EMPTY;
+    }
+
+    public int getAwayRuns() {
+        return awayRuns;
+    }
+
+    public int getAwayHits() {
+        return awayHits;
+    }
+
+    public int getAwayErrors() {
+        return awayErrors;
+    }
+
+    public int getAwayBalls() {
+        return awayBalls;
+    }
+
+    public int getHomeRuns() {
+        return homeRuns;
+    }
+
+    public int getHomeHits() {
+        return homeHits;
+    }
+
+    public int getHomeErrors() {
+        return homeErrors;
+    }
+
+    public int getHomeBalls() {
+        return homeBalls;
+    }
+
+    public String getAwayPitcher() {
+        return decision.getAwayPitcher(Math.max(awayRuns, 0), Math.max(homeRuns, 0));
+    }
+
+    public String getHomePitcher() {
+        return decision.getHomePitcher(Math.max(awayRuns, 0), Math.max(homeRuns, 0));
+    }
+
+    // 원정팀 승/무/패 (점수가 아직 없으면 "")
+    public String getAwayResult() {
+        return result(awayRuns, homeRuns);
+    }
+
+    // 홈팀 승/무/패 (점수가 아직 없으면 "")
+    public String getHomeResult() {
+        return result(homeRuns, awayRuns);
+    }
+
+    private static String result(int runs, int opponentRuns) {
+        if (runs < 0 || opponentRuns < 0) {
+            return "";
+        }
+        return runs > opponentRuns ? "승" : runs < opponentRuns ? "패" : "무";
+    }
+
+    // 크롤링 원본 형태의 날짜 (예: 2024.09.11(수))
+    public String getDateText() {
+        return String.format("%04d.%02d.%02d(%s)", date.getYear(), date.getMonthValue(), date.getDayOfMonth(), dayOfTheWeek);
+    }
+
+    // 크롤링 원본 형태의 구장/시간 (예: 잠실 18:30)
+    public String getGroundTime() {
+        return String.format("%s %02d:%02d", ground, time.getHour(), time.getMinute());
+    }
+
+    // 경기 식별 키 (날짜 + 구장/시간 + 원정팀 + 홈팀)
+    public String getKey() {
+        return key(getDateText(), getGroundTime(), awayTeam, homeTeam);
+    }
+
+    public static String key(String dateText, String groundTime, String awayTeam, String homeTeam) {
+        return dateText + '|' + groundTime + '|' + awayTeam + '|' + homeTeam;
+    }
+
+    // 경기 내용 지문 (팀, 이닝, R/H/E/B, 승/패/세 투수로 만든 64비트 FNV-1a 해시, 16자리 hex)
+    // 같은 경기를 다시 크롤링했을 때 바뀐 게 있는지 SQL 없이 비교하는 용도
+    public String getFingerprint() {
+        String f = fingerprint;
+        if (f == null) {
+            long h = FNV_OFFSET;
+            h = fnv(h, awayTeam);
+            h = fnv(h, homeTeam);
+            h = fnv(h, awayInnings.length);
+            for (int i = 0; i < awayInnings.length; i++) {
+                h = fnv(h, awayInnings[i]);
+                h = fnv(h, homeInnings[i]);
+            }
+            h = fnv(h, awayRuns);
+            h = fnv(h, awayHits);
+            h = fnv(h, awayErrors);
+            h = fnv(h, awayBalls);
+            h = fnv(h, homeRuns);
+            h = fnv(h, homeHits);
+            h = fnv(h, homeErrors);
+            h = fnv(h, homeBalls);
+            h = fnv(h, decision.getWinningPitcher());
+            h = fnv(h, decision.getLosingPitcher());
+            h = fnv(h, decision.getSavePitcher());
+            f = String.format("%016x", h);
+            fingerprint = f;
+        }
+        return f;
+    }
+
+    private static long fnv(long h, int value) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            h = (h ^ ((value >>> shift) & 0xff)) * FNV_PRIME;
+        }
+        return h;
+    }
+
+    private static long fnv(long h, String value) {
+        if (value == null) {
+            return fnv(h, -1);
+        }
+        h = fnv(h, value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            h = (h ^ (c & 0xff)) * FNV_PRIME;
+            h = (h ^ (c >>> 8)) * FNV_PRIME;
+        }
+        return h;
+    }
+
+    // 경기가 시작됐는지 (R 칸에 점수가 찍혀 있으면 진행 중이거나 끝난 경기)
+    public boolean isStarted() {
+        return awayRuns >= 0 && homeRuns >= 0;
+    }
+
+    // 경기가 끝나서 저장 가능한 상태인지
+    // 상태 표시가 있으면 경기종료일 때만, 없으면 이닝/R/H/E/B 칸이 모두 채워졌는지로 판단
+    // 무승부나 승/패 투수가 없는 경기도 있으므로 투수 문구는 보지 않음
+    public boolean isComplete() {
+        if (!status.isEmpty() && !status.equals(FINAL_STATUS)) {
+            return false;
+        }
+        for (int i = 0; i < awayInnings.length; i++) {
+            if (awayInnings[i] == EMPTY || homeInnings[i] == EMPTY) {
+                return false;
+            }
+        }
+        return awayRuns != EMPTY && awayHits != EMPTY && awayErrors != EMPTY && awayBalls != EMPTY
+                && homeRuns != EMPTY && homeHits != EMPTY && homeErrors != EMPTY && homeBalls != EMPTY;
+    }
+
+    // 오늘 더 진행되지 않는 경기인지 (시작 전 취소, 진행 중 취소/서스펜디드 모두)
+    public boolean isCalledOff() {
+        for (String marker : CALLED_OFF_MARKERS) {
+            if (status.contains(marker)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 셀 값 -> 화면 문자열
+    public static String cellText(int value) {
+        switch (value) {
+            case EMPTY:
+                return null;
+            case NOT_PLAYED:
+                return "-";
+            case SKIPPED:
+                return "X";
+            default:
+                return Integer.toString(value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GameSnapshot [" + getKey() + ", away=" + Arrays.toString(awayInnings) + " " + awayRuns + "/" + awayHits + "/"
+                + awayErrors + "/" + awayBalls + ", home=" + Arrays.toString(homeInnings) + " " + homeRuns + "/" + homeHits
+                + "/" + homeErrors + "/" + homeBalls + ", status=" + status + ", pitcher=" + pitcherText + "]";
+    }
+
+    // 스냅샷 빌더
+    // 셀 값은 문자열을 거치지 않고 바로 int 버퍼에 넣고, reset() 후 다음 경기에 재사용 가능
+    public static final class Builder {
+        private static final int MAX_CELLS = MAX_INNINGS + 4;
+
+        private LocalDate date;
+        private String dayOfTheWeek;
+        private LocalTime time;
+        private String ground;
+        private String status;
+        private String pitcherText;
+        private String awayTeam;
+        private String homeTeam;
+        private final int[] awayCells = new int[MAX_CELLS];
+        private final int[] homeCells = new int[MAX_CELLS];
+        private int awayCount;
+        private int homeCount;
+
+        private Builder() {
+        }
+
+        public Builder reset() {
+            date = null;
+            dayOfTheWeek = null;
+            time = null;
+            ground = null;
+            status = null;
+            pitcherText = null;
+            awayTeam = null;
+            homeTeam = null;
+            awayCount = 0;
+            homeCount = 0;
+            return this;
+        }
+
+        // "2024.09.11(수)"
+        public Builder date(String text) {
+            if (text == null || text.length() < 10) {
+                throw new IllegalArgumentException("잘못된 날짜: " + text);
+            }
+            this.date = LocalDate.of(parseInt(text, 0, 4), parseInt(text, 5, 7), parseInt(text, 8, 10));
+            int open = text.indexOf('(', 10);
+            int close = open < 0 ? -1 : text.indexOf(')', open + 1);
+            this.dayOfTheWeek = open < 0 ? "" : text.substring(open + 1, close < 0 ? text.length() : close);
+            return this;
+        }
+
+        public Builder date(LocalDate date, String dayOfTheWeek) {
+            this.date = date;
+            this.dayOfTheWeek = dayOfTheWeek;
+            return this;
+        }
+
+        // "잠실 18:30"
+        public Builder groundTime(String text) {
+            if (text == null) {
+                throw new IllegalArgumentException("구장/시간 없음");
+            }
+            int space = text.lastIndexOf(' ');
+            int colon = text.indexOf(':', space + 1);
+            if (space < 0 || colon < 0) {
+                throw new IllegalArgumentException("잘못된 구장/시간: " + text);
+            }
+            this.ground = text.substring(0, space).trim();
+            this.time = LocalTime.of(parseInt(text, space + 1, colon), parseInt(text, colon + 1, text.length()));
+            return this;
+        }
+
+        public Builder groundTime(String ground, LocalTime time) {
+            this.ground = ground;
+            this.time = time;
+            return this;
+        }
+
+        public Builder status(String text) {
+            this.status = text == null ? null : text.trim();
+            return this;
+        }
+
+        public Builder pitcher(String text) {
+            this.pitcherText = text;
+            return this;
+        }
+
+        public Builder awayTeam(String awayTeam) {
+            this.awayTeam = awayTeam;
+            return this;
+        }
+
+        public Builder homeTeam(String homeTeam) {
+            this.homeTeam = homeTeam;
+            return this;
+        }
+
+        // 원정팀 셀 (1회부터 순서대로, 마지막 4개는 R H E B)
+        public Builder awayCell(CharSequence text) {
+            if (awayCount == MAX_CELLS) {
+                throw new IllegalArgumentException("원정팀 셀이 너무 많습니다.");
+            }
+            awayCells[awayCount++] = parseCell(text);
+            return this;
+        }
+
+        public Builder homeCell(CharSequence text) {
+            if (homeCount == MAX_CELLS) {
+                throw new IllegalArgumentException("홈팀 셀이 너무 많습니다.");
+            }
+            homeCells[homeCount++] = parseCell(text);
+            return this;
+        }
+
+        public Builder awayCellValue(int value) {
+            awayCells[awayCount++] = value;
+            return this;
+        }
+
+        public Builder homeCellValue(int value) {
+            homeCells[homeCount++] = value;
+            return this;
+        }
+
+        public GameSnapshot build() {
+            if (date == null || time == null || isBlank(ground)) {
+                throw new IllegalArgumentException("날짜/구장/시간 정보가 없습니다.");
+            }
+            if (isBlank(awayTeam) || isBlank(homeTeam)) {
+                throw new IllegalArgumentException("팀 정보가 없습니다.");
+            }
+            if (awayCount < 4 || awayCount != homeCount) {
+                throw new IllegalArgumentException("점수 셀 개수가 맞지 않습니다. (원정 " + awayCount + ", 홈 " + homeCount + ")");
+            }
+            return new GameSnapshot(this);
+        }
+
+        private static boolean isBlank(String s) {
+            return s == null || s.isBlank();
+        }
+
+        private static int parseCell(CharSequence text) {
+            int start = 0;
+            int end = text == null ? 0 : text.length();
+            while (start < end && Character.isWhitespace(text.charAt(start))) {
+                start++;
+            }
+            while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+                end--;
+            }
+            if (start == end) {
+                return EMPTY;
+            }
+            if (end - start == 1) {
+                char c = text.charAt(start);
+                if (c == '-') {
+                    return NOT_PLAYED;
+                }
+                if (c == 'X' || c == 'x') {
+                    return SKIPPED;
+                }
+            }
+            int value = 0;
+            for (int i = start; i < end; i++) {
+                char c = text.charAt(i);
+                if (c < '0' || c > '9') {
+                    throw new IllegalArgumentException("잘못된 점수 셀: " + text);
+                }
+                value = value * 10 + (c - '0');
+            }
+            return value;
+        }
+
+        private static int parseInt(String text, int from, int to) {
+            int value = 0;
+            for (int i = from; i < to; i++) {
+                char c = text.charAt(i);
+                if (c < '0' || c > '9') {
+                    throw new IllegalArgumentException("숫자가 아닙니다: " + text);
+                }
+                value = value * 10 + (c - '0');
+            }
+            if (from == to) {
+                throw new IllegalArgumentException("숫자가 아닙니다: " + text);
+            }
+            return value;
+        }
+    }
+}
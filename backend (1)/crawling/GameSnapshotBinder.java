@@ -0,0 +1,209 @@
+package com.example.crawling;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+
+// GameSnapshot -> INSERT 문 파라미터 바인딩
+// Object[] 를 만들지 않고 PreparedStatement 에 바로 set 함
+public final class GameSnapshotBinder {
+
+    // 스케쥴 테이블 인서트 (이미 있는 경기면 결과만 덮어씀)
+    // 승/무/패, 홈/원정 투수도 여기서 같이 저장 (조회할 때 다시 계산하지 않음)
+    public static final String INSERT_SCHEDULE = "INSERT INTO schedule (game_date, day_of_the_week, season, away, home, away_score, home_score, "
+            + "ground, etc, winning_pitcher, losing_pitcher, home_win_lose, away_win_lose, home_pitcher, away_pitcher) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE away_score = VALUES(away_score), home_score = VALUES(home_score), "
+            + "winning_pitcher = VALUES(winning_pitcher), losing_pitcher = VALUES(losing_pitcher), "
+            + "home_win_lose = VALUES(home_win_lose), away_win_lose = VALUES(away_win_lose), "
+            + "home_pitcher = VALUES(home_pitcher), away_pitcher = VALUES(away_pitcher)";
+    // 스코어보드 테이블 인서트 (라이브 폴링으로 이미 만들어진 행이면 점수/투수/승패/상태만 덮어씀)
+    public static final String INSERT_SCOREBOARD = "INSERT INTO scoreboard (game_date, season, ground, away_team, "
+            + "away_inning1, away_inning2, away_inning3, away_inning4, away_inning5, away_inning6, away_inning7, away_inning8, "
+            + "away_inning9, away_inning10, away_inning11, away_inning12, away_inning13, away_inning14, away_inning15, "
+            + "away_runs, away_hits, away_errors, away_balls, away_pitcher, home_team, "
+            + "home_inning1, home_inning2, home_inning3, home_inning4, home_inning5, home_inning6, home_inning7, home_inning8, "
+            + "home_inning9, home_inning10, home_inning11, home_inning12, home_inning13, home_inning14, home_inning15, "
+            + "home_runs, home_hits, home_errors, home_balls, home_pitcher, away_win_or_lose, home_win_or_lose, game_status) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, "
+            + "?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE " + updateFromValues(ScoreboardDiff.CELL_COLUMNS) + ", "
+            + "away_pitcher = VALUES(away_pitcher), home_pitcher = VALUES(home_pitcher), "
+            + "away_win_or_lose = VALUES(away_win_or_lose), home_win_or_lose = VALUES(home_win_or_lose), "
+            + "game_status = VALUES(game_status)";
+    // 크롤링 누적 테이블 인서트 (크롤링 원본 + 투수 + 지문, 이미 있는 경기면 키 외의 컬럼을 덮어씀)
+    public static final String INSERT_CRAWLING_SCOREBOARD_SUM = "INSERT INTO crawling_scoreboard_sum (date, ground_time, pitcher, awayteam, "
+            + "a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15, ar, ah, ae, ab, "
+            + "hometeam, h1, h2, h3, h4, h5, h6, h7, h8, h9, h10, h11, h12, h13, h14, h15, hr, hh, hb, he, "
+            + "lose_pitcher, winning_pitcher, home_pitcher, away_pitcher, fingerprint) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, "
+            + "?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE pitcher = VALUES(pitcher), "
+            + "a1 = VALUES(a1), a2 = VALUES(a2), a3 = VALUES(a3), a4 = VALUES(a4), a5 = VALUES(a5), a6 = VALUES(a6), a7 = VALUES(a7), "
+            + "a8 = VALUES(a8), a9 = VALUES(a9), a10 = VALUES(a10), a11 = VALUES(a11), a12 = VALUES(a12), a13 = VALUES(a13), "
+            + "a14 = VALUES(a14), a15 = VALUES(a15), ar = VALUES(ar), ah = VALUES(ah), ae = VALUES(ae), ab = VALUES(ab), "
+            + "h1 = VALUES(h1), h2 = VALUES(h2), h3 = VALUES(h3), h4 = VALUES(h4), h5 = VALUES(h5), h6 = VALUES(h6), h7 = VALUES(h7), "
+            + "h8 = VALUES(h8), h9 = VALUES(h9), h10 = VALUES(h10), h11 = VALUES(h11), h12 = VALUES(h12), h13 = VALUES(h13), "
+            + "h14 = VALUES(h14), h15 = VALUES(h15), hr = VALUES(hr), hh = VALUES(hh), hb = VALUES(hb), he = VALUES(he), "
+            + "lose_pitcher = VALUES(lose_pitcher), winning_pitcher = VALUES(winning_pitcher), "
+            + "home_pitcher = VALUES(home_pitcher), away_pitcher = VALUES(away_pitcher), fingerprint = VALUES(fingerprint)";
+
+    private GameSnapshotBinder() {
+    }
+
+    // "컬럼 = VALUES(컬럼), ..."
+    private static String updateFromValues(List<String> columns) {
+        StringBuilder sb = new StringBuilder();
+        for (String column : columns) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(column).append(" = VALUES(").append(column).append(')');
+        }
+        return sb.toString();
+    }
+
+    public static BatchPreparedStatementSetter schedule(List<GameSnapshot> games, String season) {
+        return new Setter(games) {
+            @Override
+            void bind(PreparedStatement ps, GameSnapshot game) throws SQLException {
+                bindSchedule(ps, game, season);
+            }
+        };
+    }
+
+    public static BatchPreparedStatementSetter scoreboard(List<GameSnapshot> games, String season) {
+        return new Setter(games) {
+            @Override
+            void bind(PreparedStatement ps, GameSnapshot game) throws SQLException {
+                bindScoreboard(ps, game, season);
+            }
+        };
+    }
+
+    public static BatchPreparedStatementSetter crawlingScoreboardSum(List<GameSnapshot> games) {
+        return new Setter(games) {
+            @Override
+            void bind(PreparedStatement ps, GameSnapshot game) throws SQLException {
+                bindCrawlingScoreboardSum(ps, game);
+            }
+        };
+    }
+
+    public static void bindSchedule(PreparedStatement ps, GameSnapshot game, String season) throws SQLException {
+        int i = 1;
+        ps.setTimestamp(i++, Timestamp.valueOf(game.getGameDateTime()));
+        ps.setString(i++, game.getDayOfTheWeek());
+        ps.setString(i++, season);
+        ps.setString(i++, game.getAwayTeam());
+        ps.setString(i++, game.getHomeTeam());
+        setCell(ps, i++, game.getAwayRuns());
+        setCell(ps, i++, game.getHomeRuns());
+        ps.setString(i++, game.getGround());
+        ps.setString(i++, "-");
+        ps.setString(i++, game.getDecision().getWinningPitcher());
+        ps.setString(i++, game.getDecision().getLosingPitcher());
+        ps.setString(i++, game.getHomeResult());
+        ps.setString(i++, game.getAwayResult());
+        ps.setString(i++, game.getHomePitcher());
+        ps.setString(i, game.getAwayPitcher());
+    }
+
+    public static void bindScoreboard(PreparedStatement ps, GameSnapshot game, String season) throws SQLException {
+        int i = 1;
+        ps.setTimestamp(i++, Timestamp.valueOf(game.getGameDateTime()));
+        ps.setString(i++, season);
+        ps.setString(i++, game.getGround());
+        ps.setString(i++, game.getAwayTeam());
+        for (int inning = 1; inning <= GameSnapshot.MAX_INNINGS; inning++) {
+            setCell(ps, i++, game.getAwayInning(inning));
+        }
+        setCell(ps, i++, game.getAwayRuns());
+        setCell(ps, i++, game.getAwayHits());
+        setCell(ps, i++, game.getAwayErrors());
+        setCell(ps, i++, game.getAwayBalls());
+        ps.setString(i++, game.getAwayPitcher());
+        ps.setString(i++, game.getHomeTeam());
+        for (int inning = 1; inning <= GameSnapshot.MAX_INNINGS; inning++) {
+            setCell(ps, i++, game.getHomeInning(inning));
+        }
+        setCell(ps, i++, game.getHomeRuns());
+        setCell(ps, i++, game.getHomeHits());
+        setCell(ps, i++, game.getHomeErrors());
+        setCell(ps, i++, game.getHomeBalls());
+        ps.setString(i++, game.getHomePitcher());
+        ps.setString(i++, game.getAwayResult());
+        ps.setString(i++, game.getHomeResult());
+        ps.setString(i, statusValue(game));
+    }
+
+    // 경기 상태 (못 읽었으면 null, 조회할 때 시간으로 표시)
+    static String statusValue(GameSnapshot game) {
+        return game.getStatus().isEmpty() ? null : game.getStatus();
+    }
+
+    public static void bindCrawlingScoreboardSum(PreparedStatement ps, GameSnapshot game) throws SQLException {
+        int i = 1;
+        ps.setString(i++, game.getDateText());
+        ps.setString(i++, game.getGroundTime());
+        ps.setString(i++, game.getPitcherText());
+        ps.setString(i++, game.getAwayTeam());
+        for (int inning = 1; inning <= GameSnapshot.MAX_INNINGS; inning++) {
+            setCell(ps, i++, game.getAwayInning(inning));
+        }
+        // ar, ah, ae, ab
+        setCell(ps, i++, game.getAwayRuns());
+        setCell(ps, i++, game.getAwayHits());
+        setCell(ps, i++, game.getAwayErrors());
+        setCell(ps, i++, game.getAwayBalls());
+        ps.setString(i++, game.getHomeTeam());
+        for (int inning = 1; inning <= GameSnapshot.MAX_INNINGS; inning++) {
+            setCell(ps, i++, game.getHomeInning(inning));
+        }
+        // hr, hh, hb, he (기존 누적 테이블 컬럼 배치 그대로)
+        setCell(ps, i++, game.getHomeRuns());
+        setCell(ps, i++, game.getHomeHits());
+        setCell(ps, i++, game.getHomeErrors());
+        setCell(ps, i++, game.getHomeBalls());
+        ps.setString(i++, game.getDecision().getLosingPitcher());
+        ps.setString(i++, game.getDecision().getWinningPitcher());
+        ps.setString(i++, game.getHomePitcher());
+        ps.setString(i++, game.getAwayPitcher());
+        ps.setString(i, game.getFingerprint());
+    }
+
+    // 셀 값 바인딩 (숫자는 그대로, "-" / "X" 는 문자열, 빈 셀은 null)
+    public static void setCell(PreparedStatement ps, int index, int value) throws SQLException {
+        if (value >= 0) {
+            ps.setInt(index, value);
+        } else if (value == GameSnapshot.EMPTY) {
+            ps.setNull(index, Types.VARCHAR);
+        } else {
+            ps.setString(index, GameSnapshot.cellText(value));
+        }
+    }
+
+    private abstract static class Setter implements BatchPreparedStatementSetter {
+        private final List<GameSnapshot> games;
+
+        Setter(List<GameSnapshot> games) {
+            this.games = games;
+        }
+
+        @Override
+        public void setValues(PreparedStatement ps, int i) throws SQLException {
+            bind(ps, games.get(i));
+        }
+
+        @Override
+        public int getBatchSize() {
+            return games.size();
+        }
+
+        abstract void bind(PreparedStatement ps, GameSnapshot game) throws SQLException;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.crawling;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+// 경기 결과가 DB에 저장됐을 때 발행하는 이벤트 (ScoreBoardIngest)
+// 캐시/인덱스 등 저장된 경기를 기준으로 만든 데이터를 갱신하는 쪽에서 받음
+public class GamesIngestedEvent {
+
+    private final List<GameSnapshot> games;
+    private final String season;
+
+    public GamesIngestedEvent(List<GameSnapshot> games, String season) {
+        this.games = Collections.unmodifiableList(games);
+        this.season = season;
+    }
+
+    public List<GameSnapshot> getGames() {
+        return games;
+    }
+
+    public String getSeason() {
+        return season;
+    }
+
+    // 저장된 경기 날짜 (중복 제거, 빠른 순)
+    public Set<LocalDate> getDates() {
+        Set<LocalDate> dates = new TreeSet<>();
+        for (GameSnapshot game : games) {
+            dates.add(game.getDate());
+        }
+        return dates;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.crawling;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 같은 사이트에 요청을 너무 몰아서 보내지 않도록 호스트별로 제한
+// - 동시에 보낼 수 있는 요청 수 (max-concurrent)
+// - 요청 시작 사이의 최소 간격 (min-interval-ms)
+@Component
+public class HostRateLimiter {
+
+    private final int maxConcurrent;
+    private final long minIntervalNanos;
+    private final Map<String, HostState> hosts = new ConcurrentHashMap<>();
+
+    public HostRateLimiter(@Value("${crawling.politeness.max-concurrent:2}") int maxConcurrent,
+                           @Value("${crawling.politeness.min-interval-ms:500}") long minIntervalMillis) {
+        this.maxConcurrent = maxConcurrent;
+        this.minIntervalNanos = minIntervalMillis * 1_000_000L;
+    }
+
+    // 요청 허가 받기, 요청이 끝나면 반드시 close() (try-with-resources)
+    public Permit acquire(String host) throws InterruptedException {
+        HostState state = hosts.computeIfAbsent(host, h -> new HostState(maxConcurrent));
+        state.permits.acquire();
+        try {
+            state.waitTurn(minIntervalNanos);
+        } catch (InterruptedException e) {
+            state.permits.release();
+            throw e;
+        }
+        return new Permit(state);
+    }
+
+    public static class Permit implements AutoCloseable {
+        private final HostState state;
+        private boolean closed = false;
+
+        private Permit(HostState state) {
+            this.state = state;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                state.permits.release();
+            }
+        }
+    }
+
+    private static class HostState {
+        private final Semaphore permits;
+        private long nextStart = System.nanoTime();
+
+        HostState(int maxConcurrent) {
+            this.permits = new Semaphore(maxConcurrent, true);
+        }
+
+        // 이전 요청 시작으로부터 최소 간격이 지날 때까지 대기
+        void waitTurn(long minIntervalNanos) throws InterruptedException {
+            long wait;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long start = Math.max(now, nextStart);
+                nextStart = start + minIntervalNanos;
+                wait = start - now;
+            }
+            if (wait > 0) {
+                Thread.sleep(wait / 1_000_000L, (int) (wait % 1_000_000L));
+            }
+        }
+    }
+}
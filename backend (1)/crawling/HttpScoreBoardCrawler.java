@@ -0,0 +1,115 @@
+package com.example.crawling;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// 브라우저 없이 HTTP 로 스코어보드 페이지를 받아서 파싱하는 엔진
+// 오늘 날짜는 GET 한 번, 다른 날짜는 ASP.NET 포스트백(POST) 한 번 더 보냄
+@Component
+public class HttpScoreBoardCrawler implements ScoreBoardCrawler {
+
+    public static final String ENGINE_NAME = "http";
+
+    // 달력에서 날짜를 고르면 채워지는 hidden 필드와 조회 버튼
+    private static final String SEARCH_DATE_FIELD = "ctl00$ctl00$ctl00$cphContents$cphContents$cphContents$hfSearchDate";
+    private static final String SEARCH_BUTTON = "ctl00$ctl00$ctl00$cphContents$cphContents$cphContents$btnCalendarSelect";
+    private static final DateTimeFormatter SEARCH_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0 Safari/537.36";
+
+    @Autowired
+    private ScoreBoardHtmlParser parser;
+
+    @Autowired
+    private HostRateLimiter hostRateLimiter;
+
+    @Autowired
+    private CrawlMetrics crawlMetrics;
+
+    @Autowired
+    private PageArchive pageArchive;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .cookieHandler(new CookieManager())
+            .connectTimeout(Duration.ofSeconds(10))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    @Override
+    public String getEngineName() {
+        return ENGINE_NAME;
+    }
+
+    @Override
+    public List<GameSnapshot> crawl(LocalDate date) throws IOException, InterruptedException {
+        String html = fetchPage(date);
+        List<GameSnapshot> games = parser.parse(html);
+        ScoreBoardCrawler.requireDate(date, games);
+        pageArchive.store(date, html);
+        return games;
+    }
+
+    // 해당 날짜 스코어보드 HTML 을 받아옴
+    public String fetchPage(LocalDate date) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        String html = send(HttpRequest.newBuilder(URI.create(SeleniumScoreBoardCrawler.SCOREBOARD_URL)).GET());
+        crawlMetrics.stage(CrawlMetrics.PAGE_LOAD, start);
+        if (date.equals(LocalDate.now())) {
+            return html;
+        }
+
+        // 받아온 페이지의 __VIEWSTATE 등을 그대로 실어서 날짜만 바꿔 포스트백
+        Map<String, String> form = parser.parseHiddenInputs(html);
+        form.put("__EVENTTARGET", SEARCH_BUTTON);
+        form.put("__EVENTARGUMENT", "");
+        form.put(SEARCH_DATE_FIELD, date.format(SEARCH_DATE_FORMAT));
+
+        start = System.nanoTime();
+        html = send(HttpRequest.newBuilder(URI.create(SeleniumScoreBoardCrawler.SCOREBOARD_URL))
+                .header("Content-Type", "application/x-www-form-urlencoded; charset=UTF-8")
+                .POST(HttpRequest.BodyPublishers.ofString(encodeForm(form))));
+        crawlMetrics.stage(CrawlMetrics.DATE_SELECT, start);
+        return html;
+    }
+
+    private String send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+        HttpRequest request = builder
+                .timeout(Duration.ofSeconds(30))
+                .header("User-Agent", USER_AGENT)
+                .build();
+        HttpResponse<String> response;
+        try (HostRateLimiter.Permit permit = hostRateLimiter.acquire(SeleniumScoreBoardCrawler.SCOREBOARD_HOST)) {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        }
+        if (response.statusCode() != 200) {
+            throw new IOException("스코어보드 요청 실패: HTTP " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private static String encodeForm(Map<String, String> form) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, String> entry : form.entrySet()) {
+            if (sb.length() > 0) {
+                sb.append('&');
+            }
+            sb.append(URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8))
+              .append('=')
+              .append(URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.crawling;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 소요 시간 히스토그램 (고정 구간, 락 없이 누적)
+// 백분위수는 구간 상한값으로 근사
+public class LatencyHistogram {
+
+    // 구간 상한 (ms), 마지막 구간은 그 이상 전부
+    private static final long[] BOUNDS_MS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000, 60000 };
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_MS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        long millis = nanos / 1_000_000L;
+        int i = 0;
+        while (i < BOUNDS_MS.length && millis >= BOUNDS_MS[i]) {
+            i++;
+        }
+        buckets[i].increment();
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    // 관리자 API 응답용 요약 (count, mean/max, p50/p90/p99, 구간별 개수)
+    public Map<String, Object> snapshot() {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", total);
+        result.put("meanMs", total == 0 ? 0 : totalNanos.sum() / total / 1_000_000.0);
+        result.put("maxMs", maxNanos.get() / 1_000_000.0);
+        result.put("p50Ms", percentile(counts, total, 0.50));
+        result.put("p90Ms", percentile(counts, total, 0.90));
+        result.put("p99Ms", percentile(counts, total, 0.99));
+
+        Map<String, Long> bucketCounts = new LinkedHashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            bucketCounts.put(i < BOUNDS_MS.length ? "<" + BOUNDS_MS[i] : ">=" + BOUNDS_MS[BOUNDS_MS.length - 1], counts[i]);
+        }
+        result.put("buckets", bucketCounts);
+        return result;
+    }
+
+    private long percentile(long[] counts, long total, double p) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * p);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return i < BOUNDS_MS.length ? BOUNDS_MS[i] : maxNanos.get() / 1_000_000L;
+            }
+        }
+        return maxNanos.get() / 1_000_000L;
+    }
+}
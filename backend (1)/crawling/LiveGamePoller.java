@@ -0,0 +1,181 @@
+package com.example.crawling;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 진행 중인 경기 실시간 반영
+// - 오늘 스코어보드를 주기적으로 읽어서, 시작했지만 아직 저장되지 않은 경기만 처리
+// - 경기별 마지막 스냅샷을 메모리에 들고 있다가 바뀐 칸만 scoreboard 에 UPDATE (바뀐 게 없으면 DB 쓰기 없음)
+// - 경기가 끝나면 schedule / 누적 테이블까지 저장하고 추적 종료
+// - 바뀐 칸은 ScoreboardChangedEvent 로 라이브 구독자에게 전달 (진행 중은 ScoreBoardIngest, 종료 시점은 여기서 발행)
+@Component
+public class LiveGamePoller {
+
+    @Autowired
+    private Crawling crawling;
+
+    @Autowired
+    private ScoreBoardIngest scoreBoardIngest;
+
+    @Autowired
+    private SeenGameRegistry seenGameRegistry;
+
+    @Autowired
+    private CrawlMetrics crawlMetrics;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${crawling.live.enabled:false}")
+    private boolean enabled;
+
+    // 경기 키 -> 마지막으로 DB에 반영한 스냅샷
+    private final Map<String, GameSnapshot> lastSnapshots = new ConcurrentHashMap<>();
+
+    @Scheduled(fixedDelayString = "${crawling.live.interval-ms:60000}")
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            poll(LocalDate.now(), crawling.getDefaultEngine(), crawling.getDefaultSeason());
+        } catch (Exception e) {
+            System.out.println("라이브 폴링 실패: " + e.getMessage());
+        }
+    }
+
+    // 한 번 폴링
+    public synchronized PollResult poll(LocalDate date, String engine, String season) throws Exception {
+        CrawlRun run = crawlMetrics.startRun("live", engine, date);
+        try {
+            PollResult result = pollGames(crawling.getCrawler(engine).crawl(date), season);
+            crawlMetrics.finishRun(run, null);
+            return result;
+        } catch (Exception e) {
+            crawlMetrics.finishRun(run, e);
+            throw e;
+        }
+    }
+
+    private PollResult pollGames(List<GameSnapshot> games, String season) {
+        crawlMetrics.parsed(games.size());
+
+        PollResult result = new PollResult(games.size());
+        for (GameSnapshot game : games) {
+            String key = game.getKey();
+            if (seenGameRegistry.isUnchanged(game)) {
+                lastSnapshots.remove(key);
+                result.finished++;
+                crawlMetrics.skipped(1);
+                continue;
+            }
+            if (!game.isStarted()) {
+                lastSnapshots.remove(key);
+                if (game.isCalledOff()) {
+                    // 시작 전 취소
+                    result.terminal++;
+                }
+                continue;
+            }
+
+            if (game.isComplete()) {
+                // 경기 종료 (또는 저장된 경기의 기록 정정) : 전체 테이블 저장 (이미 있는 행은 덮어씀)
+                long start = System.nanoTime();
+                scoreBoardIngest.ingest(List.of(game), season);
+                crawlMetrics.stage(CrawlMetrics.DB_WRITE, start);
+                crawlMetrics.inserted(1);
+                seenGameRegistry.add(game);
+                GameSnapshot last = lastSnapshots.remove(key);
+                ScoreboardDiff diff = last == null ? ScoreboardDiff.full(game) : ScoreboardDiff.between(last, game);
+                if (!diff.isEmpty()) {
+                    eventPublisher.publishEvent(new ScoreboardChangedEvent(diff));
+                }
+                result.finished++;
+                result.written++;
+                continue;
+            }
+
+            if (game.isCalledOff()) {
+                // 진행 중 취소/서스펜디드 : 더 바뀌지 않으므로 진행 중으로 세지 않음 (상태 표시는 아래에서 한 번 반영)
+                result.terminal++;
+            } else {
+                result.live++;
+            }
+
+            GameSnapshot last = lastSnapshots.get(key);
+            if (last != null && last.getFingerprint().equals(game.getFingerprint()) && last.getStatus().equals(game.getStatus())) {
+                // 바뀐 게 없음 (지문에는 상태가 없어서 상태 표시는 따로 비교)
+                continue;
+            }
+            long start = System.nanoTime();
+            if (last == null) {
+                // 처음 보는 진행 중 경기 (재시작 직후 포함) : 행 전체 저장
+                scoreBoardIngest.saveScoreboard(game, season);
+                result.written++;
+            } else {
+                ScoreboardDiff diff = ScoreboardDiff.between(last, game);
+                if (diff.isEmpty()) {
+                    continue;
+                }
+                if (scoreBoardIngest.updateScoreboard(diff) == 0) {
+                    // 행이 지워졌으면 다시 만듦
+                    scoreBoardIngest.saveScoreboard(game, season);
+                }
+                result.written++;
+            }
+            crawlMetrics.stage(CrawlMetrics.DB_WRITE, start);
+            lastSnapshots.put(key, game);
+        }
+        return result;
+    }
+
+    // 현재 추적 중인 경기 수
+    public int getTrackedCount() {
+        return lastSnapshots.size();
+    }
+
+    // 폴링 한 번의 결과 (경기 수 기준)
+    public static class PollResult {
+        private final int total;
+        private int live;
+        private int finished;
+        private int written;
+        private int terminal;
+
+        PollResult(int total) {
+            this.total = total;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+        // 진행 중
+        public int getLive() {
+            return live;
+        }
+        // 끝나서 저장된 경기
+        public int getFinished() {
+            return finished;
+        }
+        // 경기종료 없이 오늘 끝난 경기 (취소, 서스펜디드 등)
+        public int getTerminal() {
+            return terminal;
+        }
+        // 아직 시작 전 (우천 지연 포함, 취소 제외)
+        public int getPending() {
+            return total - live - finished - terminal;
+        }
+        // 이번 폴링에서 DB에 쓴 경기
+        public int getWritten() {
+            return written;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.crawling;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 크롤링한 스코어보드 원본 HTML 보관소
+// - objects/ab/abcd....html.gz : 내용의 SHA-256 으로 이름을 붙인 gzip 파일 (같은 내용은 한 번만 저장)
+// - dates/2024-09-11           : 그 날짜에 마지막으로 받은 페이지의 해시
+// 날짜마다 마지막 페이지 하나만 남김 (경기 중 폴링은 __VIEWSTATE 가 매번 달라서 새 파일이 계속 생기므로
+// 같은 날짜의 이전 파일은 인덱스를 덮어쓸 때 지움)
+// 파싱 로직을 고친 뒤 사이트에 다시 접속하지 않고 재처리(replay 엔진)할 때 사용
+@Component
+public class PageArchive {
+
+    private final boolean enabled;
+    private final Path objectDir;
+    private final Path dateDir;
+
+    public PageArchive(@Value("${crawling.archive.enabled:true}") boolean enabled,
+                       @Value("${crawling.archive.dir:crawling-archive}") String dir) {
+        this.enabled = enabled;
+        Path root = Paths.get(dir).toAbsolutePath().normalize();
+        this.objectDir = root.resolve("objects");
+        this.dateDir = root.resolve("dates");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 페이지 저장 (보관 실패는 크롤링을 막지 않도록 로그만 남김)
+    // 같은 날짜를 여러 스레드(백필, 경기 중 폴링)가 동시에 저장할 수 있으므로 한 번에 하나씩
+    public synchronized void store(LocalDate date, String html) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            byte[] bytes = html.getBytes(StandardCharsets.UTF_8);
+            String hash = sha256(bytes);
+            Path index = dateDir.resolve(date.toString());
+            String previous = readHash(index);
+            if (hash.equals(previous)) {
+                return;
+            }
+            Path object = objectPath(hash);
+            if (!Files.exists(object)) {
+                Files.createDirectories(object.getParent());
+                Path temp = Files.createTempFile(object.getParent(), hash, ".tmp");
+                try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                    out.write(bytes);
+                }
+                Files.move(temp, object, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+
+            Files.createDirectories(dateDir);
+            Path temp = Files.createTempFile(dateDir, date.toString(), ".tmp");
+            Files.write(temp, hash.getBytes(StandardCharsets.US_ASCII));
+            Files.move(temp, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            // 페이지에 날짜가 들어있어서 다른 날짜와 같은 파일을 가리킬 일은 없음
+            if (previous != null) {
+                Files.deleteIfExists(objectPath(previous));
+            }
+        } catch (IOException e) {
+            System.out.println("페이지 보관 실패 " + date + " : " + e.getMessage());
+        }
+    }
+
+    // 시작할 때 어느 날짜도 가리키지 않는 파일 정리 (이전 버전에서 쌓인 파일 포함)
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void prune() {
+        if (!enabled || !Files.isDirectory(objectDir)) {
+            return;
+        }
+        try {
+            Set<String> live = new HashSet<>();
+            for (LocalDate date : getDates()) {
+                String hash = readHash(dateDir.resolve(date.toString()));
+                if (hash != null) {
+                    live.add(hash + ".html.gz");
+                }
+            }
+            int removed = 0;
+            try (Stream<Path> files = Files.walk(objectDir, 2)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    if (Files.isRegularFile(file) && !live.contains(file.getFileName().toString())) {
+                        Files.deleteIfExists(file);
+                        removed++;
+                    }
+                }
+            }
+            if (removed > 0) {
+                System.out.println("보관 페이지 정리 : " + removed + "개 삭제");
+            }
+        } catch (IOException e) {
+            System.out.println("보관 페이지 정리 실패 : " + e.getMessage());
+        }
+    }
+
+    // 해당 날짜에 보관된 페이지, 없으면 null
+    public String load(LocalDate date) throws IOException {
+        String hash = readHash(dateDir.resolve(date.toString()));
+        if (hash == null) {
+            return null;
+        }
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(objectPath(hash)))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            in.transferTo(out);
+            return out.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    // 보관된 날짜 목록 (오래된 순)
+    public List<LocalDate> getDates() throws IOException {
+        List<LocalDate> dates = new ArrayList<>();
+        if (!Files.isDirectory(dateDir)) {
+            return dates;
+        }
+        try (Stream<Path> files = Files.list(dateDir)) {
+            files.map(file -> file.getFileName().toString())
+                 .filter(name -> !name.endsWith(".tmp"))
+                 .forEach(name -> dates.add(LocalDate.parse(name)));
+        }
+        Collections.sort(dates);
+        return dates;
+    }
+
+    private static String readHash(Path index) throws IOException {
+        if (!Files.exists(index)) {
+            return null;
+        }
+        return new String(Files.readAllBytes(index), StandardCharsets.US_ASCII).trim();
+    }
+
+    private Path objectPath(String hash) {
+        return objectDir.resolve(hash.substring(0, 2)).resolve(hash + ".html.gz");
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.crawling;
+
+// 경기 결과 투수 (승/패/세) 와 홈/원정 투수 배정
+public class PitcherDecision {
+
+    public static final PitcherDecision NONE = new PitcherDecision("", "", "");
+
+    private final String winningPitcher;
+    private final String losingPitcher;
+    private final String savePitcher;
+
+    public PitcherDecision(String winningPitcher, String losingPitcher, String savePitcher) {
+        this.winningPitcher = winningPitcher;
+        this.losingPitcher = losingPitcher;
+        this.savePitcher = savePitcher;
+    }
+
+    public String getWinningPitcher() {
+        return winningPitcher;
+    }
+
+    public String getLosingPitcher() {
+        return losingPitcher;
+    }
+
+    public String getSavePitcher() {
+        return savePitcher;
+    }
+
+    // 홈팀 투수 : 원정팀이 이겼으면 패전투수, 아니면 승리투수
+    public String getHomePitcher(int awayRuns, int homeRuns) {
+        return awayRuns > homeRuns ? losingPitcher : winningPitcher;
+    }
+
+    // 원정팀 투수 : 홈팀이 이겼으면 패전투수, 아니면 승리투수
+    public String getAwayPitcher(int awayRuns, int homeRuns) {
+        return homeRuns > awayRuns ? losingPitcher : winningPitcher;
+    }
+
+    @Override
+    public String toString() {
+        return "PitcherDecision [winningPitcher=" + winningPitcher + ", losingPitcher=" + losingPitcher
+                + ", savePitcher=" + savePitcher + "]";
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.crawling;
+
+// 스코어보드 p.win 문자열에서 승/패/세 투수를 뽑아냄
+// 예) "승: 홍길동 세: 김철수 패: 이영희" -> 승 홍길동, 세 김철수, 패 이영희
+// 표시 순서가 달라도 되고, 빠진 항목은 빈 문자열
+public final class PitcherDecisionParser {
+
+    private static final char WIN = '승';
+    private static final char LOSE = '패';
+    private static final char SAVE = '세';
+
+    private PitcherDecisionParser() {
+    }
+
+    public static PitcherDecision parse(String text) {
+        if (text == null || text.isBlank()) {
+            return PitcherDecision.NONE;
+        }
+        String win = "";
+        String lose = "";
+        String save = "";
+
+        int marker = nextMarker(text, 0);
+        while (marker >= 0) {
+            int valueStart = marker + 2;
+            int next = nextMarker(text, valueStart);
+            String value = text.substring(valueStart, next < 0 ? text.length() : next).trim();
+            switch (text.charAt(marker)) {
+                case WIN:
+                    win = value;
+                    break;
+                case LOSE:
+                    lose = value;
+                    break;
+                default:
+                    save = value;
+                    break;
+            }
+            marker = next;
+        }
+        return new PitcherDecision(win, lose, save);
+    }
+
+    // from 이후에 나오는 "승:", "패:", "세:" 위치
+    private static int nextMarker(String text, int from) {
+        for (int i = from; i < text.length() - 1; i++) {
+            char c = text.charAt(i);
+            if ((c == WIN || c == LOSE || c == SAVE) && text.charAt(i + 1) == ':'
+                    && (i == 0 || !Character.isLetter(text.charAt(i - 1)))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
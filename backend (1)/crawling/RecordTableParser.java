@@ -0,0 +1,109 @@
+package com.example.crawling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// KBO 기록 페이지의 첫번째 기록 표(thead + tbody)를 읽는 파서
+// 결과 : 헤더 목록 + 행마다 셀 문자열 목록 (태그 제거, 공백 정리)
+public final class RecordTableParser {
+
+    private RecordTableParser() {
+    }
+
+    // [0] = 헤더, [1..] = 행 (표가 없으면 빈 목록)
+    public static List<List<String>> parse(String html) {
+        List<List<String>> table = new ArrayList<>();
+        int thead = ScoreBoardHtmlParser.indexOfIgnoreCase(html, "<thead", 0);
+        if (thead < 0) {
+            return table;
+        }
+        int tableEnd = ScoreBoardHtmlParser.indexOfIgnoreCase(html, "</table", thead);
+        if (tableEnd < 0) {
+            tableEnd = html.length();
+        }
+        int tbody = ScoreBoardHtmlParser.indexOfIgnoreCase(html, "<tbody", thead);
+        if (tbody < 0 || tbody > tableEnd) {
+            tbody = tableEnd;
+        }
+
+        table.add(cells(html, thead, tbody, "th"));
+
+        int row = ScoreBoardHtmlParser.indexOfIgnoreCase(html, "<tr", tbody);
+        while (row >= 0 && row < tableEnd) {
+            int next = ScoreBoardHtmlParser.indexOfIgnoreCase(html, "<tr", row + 3);
+            int rowEnd = next < 0 || next > tableEnd ? tableEnd : next;
+            List<String> cells = cells(html, row, rowEnd, "td");
+            if (!cells.isEmpty()) {
+                table.add(cells);
+            }
+            row = next;
+        }
+        return table;
+    }
+
+    // 셀 값 정리 ("-" / 빈 값 -> null, 천 단위 쉼표 제거, 이닝 "170 2/3" -> "170.667")
+    public static String value(String text) {
+        if (text == null || text.isEmpty() || "-".equals(text)) {
+            return null;
+        }
+        String s = text.indexOf(',') < 0 ? text : text.replace(",", "");
+        int slash = s.indexOf('/');
+        if (slash > 0) {
+            int space = s.lastIndexOf(' ', slash);
+            try {
+                double whole = space < 0 ? 0 : Double.parseDouble(s.substring(0, space));
+                double fraction = Double.parseDouble(s.substring(space + 1, slash)) / Double.parseDouble(s.substring(slash + 1));
+                return String.format(Locale.ROOT, "%.3f", whole + fraction);
+            } catch (NumberFormatException e) {
+                return s;
+            }
+        }
+        return s;
+    }
+
+    // [from, to) 구간의 <name> 셀 텍스트
+    private static List<String> cells(String html, int from, int to, String name) {
+        List<String> cells = new ArrayList<>();
+        int i = from;
+        while (true) {
+            int start = ScoreBoardHtmlParser.indexOfIgnoreCase(html, "<" + name, i);
+            if (start < 0 || start >= to) {
+                break;
+            }
+            char after = start + name.length() + 1 < html.length() ? html.charAt(start + name.length() + 1) : '>';
+            if (after != '>' && !Character.isWhitespace(after)) {
+                // <thead>, <tbody> 등
+                i = start + 1;
+                continue;
+            }
+            int open = ScoreBoardHtmlParser.findTagEnd(html, start);
+            if (open < 0) {
+                break;
+            }
+            int close = ScoreBoardHtmlParser.indexOfIgnoreCase(html, "</" + name, open);
+            if (close < 0 || close > to) {
+                close = to;
+            }
+            cells.add(ScoreBoardHtmlParser.normalize(stripTags(html, open + 1, close)));
+            i = close;
+        }
+        return cells;
+    }
+
+    private static String stripTags(String html, int from, int to) {
+        StringBuilder sb = new StringBuilder(to - from);
+        boolean inTag = false;
+        for (int i = from; i < to; i++) {
+            char c = html.charAt(i);
+            if (c == '<') {
+                inTag = true;
+            } else if (c == '>') {
+                inTag = false;
+            } else if (!inTag) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
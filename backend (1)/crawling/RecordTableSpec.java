@@ -0,0 +1,130 @@
+package com.example.crawling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// 기록 테이블 하나의 크롤링/저장 정의
+// - table        : 저장할 테이블 (batters, pitchers ...)
+// - keyColumns   : 행을 구분하는 컬럼 (유니크 인덱스와 같음, year 포함)
+// - columns      : 저장하는 컬럼 (KBO 기록 페이지 헤더를 소문자로 바꾼 이름과 같음)
+// - paths        : 기록 페이지 (여러 페이지면 키 기준으로 합침)
+public final class RecordTableSpec {
+
+    private static final List<String> BATTER_STATS = Arrays.asList("avg", "g", "pa", "ab", "r", "h", "2b", "3b", "hr", "tb", "rbi",
+            "sac", "sf", "bb", "ibb", "hbp", "so", "gdp", "slg", "obp", "ops", "mh", "risp", "ph-ba");
+    private static final List<String> PITCHER_STATS = Arrays.asList("era", "g", "w", "l", "sv", "hld", "wpct", "ip", "h", "hr", "bb",
+            "hbp", "so", "r", "er", "whip", "cg", "sho", "qs", "bsv", "tbf", "np", "avg", "2b", "3b", "sac", "sf", "ibb", "wp", "bk");
+
+    public static final RecordTableSpec BATTERS = new RecordTableSpec("batters", "batters_name", false,
+            Arrays.asList("year", "batters_name", "team_name"), BATTER_STATS,
+            "/Record/Player/HitterBasic/Basic1.aspx", "/Record/Player/HitterBasic/Basic2.aspx");
+    public static final RecordTableSpec PITCHERS = new RecordTableSpec("pitchers", "pitchers_name", true,
+            Arrays.asList("year", "pitchers_name", "team_name"), PITCHER_STATS,
+            "/Record/Player/PitcherBasic/Basic1.aspx", "/Record/Player/PitcherBasic/Basic2.aspx");
+    public static final RecordTableSpec DEFENCES = new RecordTableSpec("defences", "defences_name", true,
+            Arrays.asList("year", "defences_name", "team_name", "pos"),
+            Arrays.asList("g", "gs", "ip", "e", "pko", "po", "a", "dp", "fpct", "pb", "sb", "cs", "cs%"),
+            "/Record/Player/Defense/Basic.aspx");
+    public static final RecordTableSpec BATTER_TEAM_RECORD = new RecordTableSpec("batter_team_record", null, true,
+            Arrays.asList("year", "team_name"), BATTER_STATS,
+            "/Record/Team/Hitter/Basic1.aspx", "/Record/Team/Hitter/Basic2.aspx");
+    public static final RecordTableSpec PITCHERS_TEAM_RECORD = new RecordTableSpec("pitchers_team_record", null, false,
+            Arrays.asList("year", "team_name"), PITCHER_STATS,
+            "/Record/Team/Pitcher/Basic1.aspx", "/Record/Team/Pitcher/Basic2.aspx");
+    public static final RecordTableSpec DEFENCES_TEAM_RECORD = new RecordTableSpec("defences_team_record", null, false,
+            Arrays.asList("year", "team_name"),
+            Arrays.asList("g", "e", "pko", "po", "a", "dp", "fpct", "pb", "sb", "cs", "cs%"),
+            "/Record/Team/Defense/Basic.aspx");
+
+    // 시즌 기록 갱신 대상 전체 (pit_bat_matchup 은 선수를 하나씩 골라야 하는 페이지라 제외)
+    public static final List<RecordTableSpec> ALL = Collections.unmodifiableList(Arrays.asList(
+            BATTERS, PITCHERS, DEFENCES, BATTER_TEAM_RECORD, PITCHERS_TEAM_RECORD, DEFENCES_TEAM_RECORD));
+
+    private final String table;
+    private final String nameColumn;
+    private final List<String> keyColumns;
+    private final List<String> columns;
+    private final List<String> paths;
+
+    private RecordTableSpec(String table, String nameColumn, boolean ranking, List<String> keyColumns, List<String> stats, String... paths) {
+        this.table = table;
+        this.nameColumn = nameColumn;
+        this.keyColumns = Collections.unmodifiableList(keyColumns);
+        List<String> all = new ArrayList<>(keyColumns);
+        if (ranking) {
+            all.add("ranking");
+        }
+        for (String stat : stats) {
+            if (!all.contains(stat)) {
+                all.add(stat);
+            }
+        }
+        this.columns = Collections.unmodifiableList(all);
+        this.paths = Collections.unmodifiableList(Arrays.asList(paths));
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public List<String> getKeyColumns() {
+        return keyColumns;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    // 페이지 헤더 -> 컬럼 이름 (저장하지 않는 헤더는 null)
+    public String column(String header) {
+        String column;
+        switch (header) {
+            case "선수명":
+                column = nameColumn;
+                break;
+            case "팀명":
+                column = "team_name";
+                break;
+            case "순위":
+                column = "ranking";
+                break;
+            default:
+                column = header.toLowerCase();
+                break;
+        }
+        return column != null && columns.contains(column) && !"year".equals(column) ? column : null;
+    }
+
+    // INSERT ... ON DUPLICATE KEY UPDATE (키 외의 컬럼만 갱신)
+    public String getUpsertSql() {
+        StringBuilder names = new StringBuilder();
+        StringBuilder values = new StringBuilder();
+        StringBuilder updates = new StringBuilder();
+        for (String column : columns) {
+            if (names.length() > 0) {
+                names.append(", ");
+                values.append(", ");
+            }
+            names.append('`').append(column).append('`');
+            values.append('?');
+            if (!keyColumns.contains(column)) {
+                if (updates.length() > 0) {
+                    updates.append(", ");
+                }
+                updates.append('`').append(column).append("` = VALUES(`").append(column).append("`)");
+            }
+        }
+        return "INSERT INTO " + table + " (" + names + ") VALUES (" + values + ") ON DUPLICATE KEY UPDATE " + updates;
+    }
+
+    @Override
+    public String toString() {
+        return table;
+    }
+}
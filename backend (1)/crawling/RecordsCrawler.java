@@ -0,0 +1,175 @@
+package com.example.crawling;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 선수/팀 시즌 기록 크롤링 (batters, pitchers, defences, *_team_record)
+// 기록 페이지를 HTTP 로 받아서(시즌 선택, 페이지 넘김은 ASP.NET 포스트백) 표를 읽고
+// RecordsIngest 로 바뀐 행만 저장
+@Component
+public class RecordsCrawler {
+
+    private static final String BASE_URL = "https://" + SeleniumScoreBoardCrawler.SCOREBOARD_HOST;
+    private static final String SEASON_FIELD = "ctl00$ctl00$ctl00$cphContents$cphContents$cphContents$ddlSeason$ddlSeason";
+    private static final String PAGER_BUTTON = "ctl00$ctl00$ctl00$cphContents$cphContents$cphContents$ucPager$btnNo";
+    private static final int MAX_PAGES = 50;
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0 Safari/537.36";
+
+    @Autowired
+    private ScoreBoardHtmlParser parser;
+
+    @Autowired
+    private HostRateLimiter hostRateLimiter;
+
+    @Autowired
+    private RecordsIngest recordsIngest;
+
+    @Value("${crawling.records.enabled:false}")
+    private boolean enabled;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .cookieHandler(new CookieManager())
+            .connectTimeout(Duration.ofSeconds(10))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    // 매일 새벽 올해 기록 갱신
+    @Scheduled(cron = "${crawling.records.cron:0 0 4 * * *}")
+    public void nightly() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            refresh(LocalDate.now().getYear());
+        } catch (Exception e) {
+            System.out.println("기록 크롤링 실패: " + e.getMessage());
+        }
+    }
+
+    // 해당 시즌 기록 전체 갱신, 테이블별 저장한 행 수 반환
+    public synchronized Map<String, Integer> refresh(int year) throws IOException, InterruptedException {
+        Map<String, Integer> changed = new LinkedHashMap<>();
+        for (RecordTableSpec spec : RecordTableSpec.ALL) {
+            changed.put(spec.getTable(), recordsIngest.apply(spec, year, fetch(spec, year)));
+        }
+        return changed;
+    }
+
+    // 기록 페이지들을 읽어서 키 기준으로 합친 행 목록
+    public List<Map<String, String>> fetch(RecordTableSpec spec, int year) throws IOException, InterruptedException {
+        Map<String, Map<String, String>> rows = new LinkedHashMap<>();
+        for (String path : spec.getPaths()) {
+            String url = BASE_URL + path;
+            Map<String, String> form = new HashMap<>();
+            form.put(SEASON_FIELD, String.valueOf(year));
+
+            // 시즌 선택
+            String html = send(HttpRequest.newBuilder(URI.create(url)).GET());
+            html = postBack(url, html, SEASON_FIELD, form);
+
+            for (int page = 2; ; page++) {
+                readRows(spec, year, html, rows);
+                if (page > MAX_PAGES || !html.contains(PAGER_BUTTON + page)) {
+                    break;
+                }
+                html = postBack(url, html, PAGER_BUTTON + page, form);
+            }
+        }
+        return new ArrayList<>(rows.values());
+    }
+
+    // 페이지 하나의 표를 읽어서 rows 에 키 기준으로 합침
+    static void readRows(RecordTableSpec spec, int year, String html, Map<String, Map<String, String>> rows) {
+        List<List<String>> table = RecordTableParser.parse(html);
+        if (table.isEmpty()) {
+            return;
+        }
+        List<String> headers = table.get(0);
+        String[] columns = new String[headers.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = spec.column(headers.get(i));
+        }
+
+        for (List<String> cells : table.subList(1, table.size())) {
+            Map<String, String> row = new HashMap<>();
+            row.put("year", String.valueOf(year));
+            for (int i = 0; i < columns.length && i < cells.size(); i++) {
+                if (columns[i] != null) {
+                    row.put(columns[i], RecordTableParser.value(cells.get(i)));
+                }
+            }
+
+            StringBuilder key = new StringBuilder();
+            for (String column : spec.getKeyColumns()) {
+                if (row.get(column) == null) {
+                    // 합계 행 등 키가 없는 행
+                    key = null;
+                    break;
+                }
+                key.append(row.get(column)).append('|');
+            }
+            if (key == null) {
+                continue;
+            }
+            // 여러 페이지에 나뉜 기록을 합침 (순위는 첫 페이지 기준)
+            Map<String, String> merged = rows.computeIfAbsent(key.toString(), k -> new HashMap<>());
+            row.forEach(merged::putIfAbsent);
+        }
+    }
+
+    private String postBack(String url, String html, String target, Map<String, String> fields) throws IOException, InterruptedException {
+        Map<String, String> form = parser.parseHiddenInputs(html);
+        form.putAll(fields);
+        form.put("__EVENTTARGET", target);
+        form.put("__EVENTARGUMENT", "");
+        return send(HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/x-www-form-urlencoded; charset=UTF-8")
+                .POST(HttpRequest.BodyPublishers.ofString(encodeForm(form))));
+    }
+
+    private String send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+        HttpRequest request = builder
+                .timeout(Duration.ofSeconds(30))
+                .header("User-Agent", USER_AGENT)
+                .build();
+        HttpResponse<String> response;
+        try (HostRateLimiter.Permit permit = hostRateLimiter.acquire(SeleniumScoreBoardCrawler.SCOREBOARD_HOST)) {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        }
+        if (response.statusCode() != 200) {
+            throw new IOException("기록 페이지 요청 실패: HTTP " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private static String encodeForm(Map<String, String> form) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, String> entry : form.entrySet()) {
+            if (sb.length() > 0) {
+                sb.append('&');
+            }
+            sb.append(URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8))
+              .append('=')
+              .append(URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.crawling;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 크롤링한 시즌 기록을 저장된 행과 비교해서 바뀐 행만 저장
+// 바뀐 행이 없으면 DB 쓰기 없음 (인덱스/캐시를 건드리지 않음)
+// 바뀐 행이 있으면 RecordsIngestedEvent 발행 (응답 캐시 등)
+@Component
+public class RecordsIngest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // rows : 컬럼 -> 값 (RecordTableParser.value 로 정리된 문자열), 저장한 행 수 반환
+    @Transactional
+    public int apply(RecordTableSpec spec, int year, List<Map<String, String>> rows) {
+        Map<String, Map<String, Object>> stored = new HashMap<>();
+        for (Map<String, Object> row : jdbcTemplate.queryForList("SELECT * FROM " + spec.getTable() + " WHERE year = ?", year)) {
+            stored.put(key(spec, row), row);
+        }
+
+        List<Object[]> changed = new ArrayList<>();
+        for (Map<String, String> row : rows) {
+            Map<String, Object> before = stored.get(key(spec, row));
+            if (before != null && sameRow(spec, before, row)) {
+                continue;
+            }
+            Object[] args = new Object[spec.getColumns().size()];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = row.get(spec.getColumns().get(i));
+            }
+            changed.add(args);
+        }
+
+        if (!changed.isEmpty()) {
+            jdbcTemplate.batchUpdate(spec.getUpsertSql(), changed);
+            eventPublisher.publishEvent(new RecordsIngestedEvent(spec.getTable(), year, changed.size()));
+        }
+        return changed.size();
+    }
+
+    private static String key(RecordTableSpec spec, Map<String, ?> row) {
+        StringBuilder sb = new StringBuilder();
+        for (String column : spec.getKeyColumns()) {
+            Object value = row.get(column);
+            sb.append(value == null ? "" : value.toString()).append('|');
+        }
+        return sb.toString();
+    }
+
+    private static boolean sameRow(RecordTableSpec spec, Map<String, Object> before, Map<String, String> after) {
+        for (String column : spec.getColumns()) {
+            if (!sameValue(before.get(column), after.get(column))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 저장된 값(DB 타입)과 크롤링한 문자열 비교
+    // 정수 컬럼은 반올림해서, 실수 컬럼은 소수 셋째 자리까지 비교 (DB에 저장될 때와 같은 기준)
+    static boolean sameValue(Object stored, String crawled) {
+        if (stored == null || crawled == null) {
+            return stored == null && crawled == null;
+        }
+        if (stored instanceof Number) {
+            double value;
+            try {
+                value = Double.parseDouble(crawled);
+            } catch (NumberFormatException e) {
+                return false;
+            }
+            if (stored instanceof Integer || stored instanceof Long || stored instanceof Short) {
+                return Math.round(value) == ((Number) stored).longValue();
+            }
+            double before = stored instanceof BigDecimal ? ((BigDecimal) stored).doubleValue() : ((Number) stored).doubleValue();
+            return Math.abs(before - value) < 0.0005;
+        }
+        return stored.toString().equals(crawled);
+    }
+}
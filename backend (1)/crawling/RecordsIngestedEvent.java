@@ -0,0 +1,28 @@
+package com.example.crawling;
+
+// 시즌 기록 테이블에 바뀐 행이 저장됐을 때 발행하는 이벤트 (RecordsIngest)
+// 바뀐 행이 없으면 발행하지 않음
+public class RecordsIngestedEvent {
+
+    private final String table;
+    private final int year;
+    private final int changedRows;
+
+    public RecordsIngestedEvent(String table, int year, int changedRows) {
+        this.table = table;
+        this.year = year;
+        this.changedRows = changedRows;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getChangedRows() {
+        return changedRows;
+    }
+}
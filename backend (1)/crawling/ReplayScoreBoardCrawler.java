@@ -0,0 +1,39 @@
+package com.example.crawling;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// 사이트에 접속하지 않고 PageArchive 에 보관된 페이지를 다시 파싱하는 엔진
+// 백필(engine=replay)로 돌리면 보관된 시즌 전체를 병렬로 재처리
+@Component
+public class ReplayScoreBoardCrawler implements ScoreBoardCrawler {
+
+    public static final String ENGINE_NAME = "replay";
+
+    @Autowired
+    private PageArchive pageArchive;
+
+    @Autowired
+    private ScoreBoardHtmlParser parser;
+
+    @Autowired
+    private CrawlMetrics crawlMetrics;
+
+    @Override
+    public String getEngineName() {
+        return ENGINE_NAME;
+    }
+
+    // 보관된 페이지가 없는 날짜는 빈 목록
+    @Override
+    public List<GameSnapshot> crawl(LocalDate date) throws IOException {
+        long start = System.nanoTime();
+        String html = pageArchive.load(date);
+        crawlMetrics.stage(CrawlMetrics.PAGE_LOAD, start);
+        return html == null ? List.of() : parser.parse(html);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.crawling;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// KBO 스코어보드(ScoreBoard.aspx) 크롤링 엔진 공통 인터페이스
+// 브라우저(Selenium) 엔진과 HTTP 엔진 중 실행할 때마다 골라서 사용
+public interface ScoreBoardCrawler {
+
+    // 엔진 이름 (crawling.engine 설정값과 비교)
+    String getEngineName();
+
+    // 해당 날짜의 스코어보드에 있는 경기 목록을 읽어옴
+    List<GameSnapshot> crawl(LocalDate date) throws Exception;
+
+    // 읽은 경기가 모두 요청한 날짜인지 확인 (날짜 선택이 안 먹어서 다른 날 페이지를 읽은 경우 예외)
+    // 다른 날 경기가 그날 것으로 저장/보관되거나 체크포인트에 완료로 남지 않도록 저장 전에 호출
+    static void requireDate(LocalDate date, List<GameSnapshot> games) {
+        for (GameSnapshot game : games) {
+            if (!date.equals(game.getGameDateTime().toLocalDate())) {
+                throw new IllegalStateException("요청한 날짜(" + date + ")와 다른 페이지(" + game.getDate() + ")를 읽음");
+            }
+        }
+    }
+}
@@ -0,0 +1,495 @@
+package com.example.crawling;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// ScoreBoard.aspx HTML 을 앞에서부터 한 번만 훑으면서 필요한 부분만 뽑아내는 파서
+// (DOM 트리를 만들지 않고 태그를 만날 때마다 상태만 바꿈)
+// - li.today span  : 경기 날짜
+// - div.smsScore   : 경기 하나
+// - strong.flag    : 경기 상태 (경기종료, 5회말, 우천취소 등)
+// - p.place        : 구장 / 시간
+// - table.tScore   : 첫번째 tScore 테이블의 tbody (원정, 홈 순서)
+// - p.win          : 승/패/세 투수
+@Component
+public class ScoreBoardHtmlParser {
+
+    private static final int NONE = 0;
+    private static final int DATE = 1;
+    private static final int PLACE = 2;
+    private static final int WIN = 3;
+    private static final int TH = 4;
+    private static final int TD = 5;
+    private static final int STATUS = 6;
+
+    @Autowired
+    private CrawlMetrics crawlMetrics;
+
+    public List<GameSnapshot> parse(String html) {
+        List<GameSnapshot> games = new ArrayList<>();
+        String dateText = null;
+
+        int divDepth = 0;
+        int gameDivDepth = -1;
+        int tableDepth = 0;
+        int scoreTableDepth = -1;
+        boolean scoreTableDone = false;
+        boolean inToday = false;
+        boolean inTbody = false;
+        boolean inRow = false;
+        int rowIndex = 0;
+
+        // 빌더는 경기마다 reset 해서 재사용
+        GameSnapshot.Builder game = GameSnapshot.builder();
+        boolean inGame = false;
+        String gameGroundTime = null;
+        String gameError = null;
+        long gameStart = 0;
+        boolean rowTeamSet = false;
+
+        int capture = NONE;
+        StringBuilder text = new StringBuilder();
+
+        int i = 0;
+        int n = html.length();
+        while (i < n) {
+            char c = html.charAt(i);
+            if (c != '<') {
+                int next = html.indexOf('<', i);
+                if (next < 0) {
+                    next = n;
+                }
+                if (capture != NONE) {
+                    text.append(html, i, next);
+                }
+                i = next;
+                continue;
+            }
+
+            // 주석
+            if (html.startsWith("<!--", i)) {
+                int end = html.indexOf("-->", i + 4);
+                i = end < 0 ? n : end + 3;
+                continue;
+            }
+
+            int end = findTagEnd(html, i);
+            if (end < 0) {
+                break;
+            }
+            String tag = html.substring(i + 1, end);
+            i = end + 1;
+            if (tag.isEmpty() || tag.charAt(0) == '!' || tag.charAt(0) == '?') {
+                continue;
+            }
+
+            boolean closing = tag.charAt(0) == '/';
+            String name = tagName(tag, closing ? 1 : 0);
+
+            if (!closing) {
+                // script, style 내용은 건너뜀
+                if (name.equals("script") || name.equals("style")) {
+                    i = skipRawText(html, i, name);
+                    continue;
+                }
+                boolean selfClosing = tag.endsWith("/");
+
+                switch (name) {
+                    case "br":
+                        if (capture != NONE) {
+                            text.append(' ');
+                        }
+                        break;
+                    case "li":
+                        if (dateText == null && hasClass(tag, "today")) {
+                            inToday = true;
+                        }
+                        break;
+                    case "span":
+                        if (inToday && capture == NONE) {
+                            capture = DATE;
+                            text.setLength(0);
+                        }
+                        break;
+                    case "div":
+                        if (selfClosing) {
+                            break;
+                        }
+                        divDepth++;
+                        if (!inGame && hasClass(tag, "smsScore")) {
+                            game.reset();
+                            inGame = true;
+                            gameGroundTime = null;
+                            gameError = null;
+                            gameStart = System.nanoTime();
+                            gameDivDepth = divDepth;
+                            scoreTableDone = false;
+                            rowIndex = 0;
+                        }
+                        break;
+                    case "strong":
+                        if (inGame && capture == NONE && hasClass(tag, "flag")) {
+                            capture = STATUS;
+                            text.setLength(0);
+                        }
+                        break;
+                    case "p":
+                        if (inGame && capture == NONE) {
+                            if (hasClass(tag, "place")) {
+                                capture = PLACE;
+                                text.setLength(0);
+                            } else if (hasClass(tag, "win")) {
+                                capture = WIN;
+                                text.setLength(0);
+                            }
+                        }
+                        break;
+                    case "table":
+                        tableDepth++;
+                        if (inGame && !scoreTableDone && scoreTableDepth < 0 && hasClass(tag, "tScore")) {
+                            scoreTableDepth = tableDepth;
+                        }
+                        break;
+                    case "tbody":
+                        if (scoreTableDepth == tableDepth) {
+                            inTbody = true;
+                        }
+                        break;
+                    case "tr":
+                        if (inTbody) {
+                            inRow = true;
+                            rowTeamSet = false;
+                            if (rowIndex == 0) {
+                                game.awayTeam("");
+                            } else if (rowIndex == 1) {
+                                game.homeTeam("");
+                            }
+                        }
+                        break;
+                    case "th":
+                        if (inRow) {
+                            capture = TH;
+                            text.setLength(0);
+                        }
+                        break;
+                    case "td":
+                        if (inRow) {
+                            capture = TD;
+                            text.setLength(0);
+                        }
+                        break;
+                    default:
+                        break;
+                }
+                continue;
+            }
+
+            switch (name) {
+                case "li":
+                    inToday = false;
+                    break;
+                case "span":
+                    if (capture == DATE) {
+                        dateText = normalize(text);
+                        capture = NONE;
+                        inToday = false;
+                    }
+                    break;
+                case "div":
+                    if (inGame && divDepth == gameDivDepth) {
+                        try {
+                            if (gameError != null) {
+                                throw new IllegalArgumentException(gameError);
+                            }
+                            games.add(game.date(dateText).groundTime(gameGroundTime).build());
+                        } catch (IllegalArgumentException e) {
+                            crawlMetrics.parseFailed();
+                            System.out.println("경기 데이터 파싱 실패: " + e.getMessage());
+                        }
+                        crawlMetrics.stage(CrawlMetrics.EXTRACT_GAME, gameStart);
+                        inGame = false;
+                        gameDivDepth = -1;
+                    }
+                    divDepth--;
+                    break;
+                case "strong":
+                    if (capture == STATUS) {
+                        game.status(normalize(text));
+                        capture = NONE;
+                    }
+                    break;
+                case "p":
+                    if (capture == PLACE) {
+                        gameGroundTime = normalize(text);
+                        capture = NONE;
+                    } else if (capture == WIN) {
+                        game.pitcher(normalize(text));
+                        capture = NONE;
+                    }
+                    break;
+                case "table":
+                    if (tableDepth == scoreTableDepth) {
+                        scoreTableDepth = -1;
+                        scoreTableDone = true;
+                        inTbody = false;
+                        inRow = false;
+                    }
+                    tableDepth--;
+                    break;
+                case "tbody":
+                    if (scoreTableDepth == tableDepth) {
+                        inTbody = false;
+                    }
+                    break;
+                case "th":
+                    if (capture == TH) {
+                        if (!rowTeamSet) {
+                            if (rowIndex == 0) {
+                                game.awayTeam(normalize(text));
+                            } else if (rowIndex == 1) {
+                                game.homeTeam(normalize(text));
+                            }
+                            rowTeamSet = true;
+                        }
+                        capture = NONE;
+                    }
+                    break;
+                case "td":
+                    if (capture == TD) {
+                        try {
+                            if (rowIndex == 0) {
+                                game.awayCell(normalize(text));
+                            } else if (rowIndex == 1) {
+                                game.homeCell(normalize(text));
+                            }
+                        } catch (IllegalArgumentException e) {
+                            gameError = e.getMessage();
+                        }
+                        capture = NONE;
+                    }
+                    break;
+                case "tr":
+                    if (inRow) {
+                        rowIndex++;
+                        inRow = false;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return games;
+    }
+
+    // ASP.NET 포스트백에 필요한 hidden input 값 (__VIEWSTATE 등)
+    public Map<String, String> parseHiddenInputs(String html) {
+        Map<String, String> inputs = new LinkedHashMap<>();
+        int i = 0;
+        while (true) {
+            int start = indexOfIgnoreCase(html, "<input", i);
+            if (start < 0) {
+                break;
+            }
+            int end = findTagEnd(html, start);
+            if (end < 0) {
+                break;
+            }
+            String tag = html.substring(start + 1, end);
+            i = end + 1;
+            if (!"hidden".equalsIgnoreCase(attribute(tag, "type"))) {
+                continue;
+            }
+            String name = attribute(tag, "name");
+            if (name != null) {
+                String value = attribute(tag, "value");
+                inputs.put(name, value == null ? "" : decodeEntities(value));
+            }
+        }
+        return inputs;
+    }
+
+    // 따옴표 안의 '>' 는 무시하고 태그 끝 위치를 찾음
+    static int findTagEnd(String html, int start) {
+        char quote = 0;
+        for (int i = start + 1; i < html.length(); i++) {
+            char c = html.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String tagName(String tag, int from) {
+        int i = from;
+        while (i < tag.length()) {
+            char c = tag.charAt(i);
+            if (Character.isWhitespace(c) || c == '/' || c == '>') {
+                break;
+            }
+            i++;
+        }
+        return tag.substring(from, i).toLowerCase();
+    }
+
+    private static int skipRawText(String html, int from, String name) {
+        int end = indexOfIgnoreCase(html, "</" + name, from);
+        if (end < 0) {
+            return html.length();
+        }
+        int close = html.indexOf('>', end);
+        return close < 0 ? html.length() : close + 1;
+    }
+
+    static int indexOfIgnoreCase(String html, String target, int from) {
+        int max = html.length() - target.length();
+        for (int i = from; i <= max; i++) {
+            if (html.regionMatches(true, i, target, 0, target.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean hasClass(String tag, String className) {
+        String classes = attribute(tag, "class");
+        if (classes == null) {
+            return false;
+        }
+        for (String c : classes.trim().split("\\s+")) {
+            if (c.equals(className)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 태그 문자열에서 속성값 읽기 (name="value", name='value', name=value)
+    static String attribute(String tag, String name) {
+        int i = 0;
+        int n = tag.length();
+        // 태그 이름 건너뛰기
+        while (i < n && !Character.isWhitespace(tag.charAt(i))) {
+            i++;
+        }
+        while (i < n) {
+            while (i < n && (Character.isWhitespace(tag.charAt(i)) || tag.charAt(i) == '/')) {
+                i++;
+            }
+            int nameStart = i;
+            while (i < n && tag.charAt(i) != '=' && !Character.isWhitespace(tag.charAt(i)) && tag.charAt(i) != '/') {
+                i++;
+            }
+            String attrName = tag.substring(nameStart, i);
+            while (i < n && Character.isWhitespace(tag.charAt(i))) {
+                i++;
+            }
+            String value = null;
+            if (i < n && tag.charAt(i) == '=') {
+                i++;
+                while (i < n && Character.isWhitespace(tag.charAt(i))) {
+                    i++;
+                }
+                if (i < n && (tag.charAt(i) == '"' || tag.charAt(i) == '\'')) {
+                    char quote = tag.charAt(i);
+                    int close = tag.indexOf(quote, i + 1);
+                    if (close < 0) {
+                        close = n;
+                    }
+                    value = tag.substring(i + 1, close);
+                    i = close + 1;
+                } else {
+                    int valueStart = i;
+                    while (i < n && !Character.isWhitespace(tag.charAt(i))) {
+                        i++;
+                    }
+                    value = tag.substring(valueStart, i);
+                }
+            }
+            if (attrName.equalsIgnoreCase(name)) {
+                return value == null ? "" : value;
+            }
+            if (attrName.isEmpty()) {
+                i++;
+            }
+        }
+        return null;
+    }
+
+    // 브라우저 getText() 와 비슷하게 엔티티 변환 후 공백을 하나로 합치고 앞뒤 공백 제거
+    static String normalize(CharSequence raw) {
+        String decoded = decodeEntities(raw.toString());
+        StringBuilder sb = new StringBuilder(decoded.length());
+        boolean space = false;
+        for (int i = 0; i < decoded.length(); i++) {
+            char c = decoded.charAt(i);
+            if (Character.isWhitespace(c) || c == '\u00a0') {
+                space = sb.length() > 0;
+            } else {
+                if (space) {
+                    sb.append(' ');
+                    space = false;
+                }
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    static String decodeEntities(String s) {
+        if (s.indexOf('&') < 0) {
+            return s;
+        }
+        StringBuilder sb = new StringBuilder(s.length());
+        int i = 0;
+        while (i < s.length()) {
+            char c = s.charAt(i);
+            int semi = c == '&' ? s.indexOf(';', i) : -1;
+            if (semi < 0 || semi - i > 10) {
+                sb.append(c);
+                i++;
+                continue;
+            }
+            String entity = s.substring(i + 1, semi);
+            String decoded = null;
+            switch (entity) {
+                case "amp": decoded = "&"; break;
+                case "lt": decoded = "<"; break;
+                case "gt": decoded = ">"; break;
+                case "quot": decoded = "\""; break;
+                case "apos": decoded = "'"; break;
+                case "nbsp": decoded = " "; break;
+                default:
+                    try {
+                        if (entity.startsWith("#x") || entity.startsWith("#X")) {
+                            decoded = new String(Character.toChars(Integer.parseInt(entity.substring(2), 16)));
+                        } else if (entity.startsWith("#")) {
+                            decoded = new String(Character.toChars(Integer.parseInt(entity.substring(1))));
+                        }
+                    } catch (IllegalArgumentException e) {
+                        decoded = null;
+                    }
+                    break;
+            }
+            if (decoded == null) {
+                sb.append(c);
+                i++;
+            } else {
+                sb.append(decoded);
+                i = semi + 1;
+            }
+        }
+        return sb.toString();
+    }
+}
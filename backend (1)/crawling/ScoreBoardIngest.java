@@ -0,0 +1,56 @@
+package com.example.crawling;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 크롤링한 경기들을 한 번에 DB에 저장
+// 승/패/세 투수와 홈/원정 투수는 GameSnapshot 에서 미리 계산해두고
+// schedule / scoreboard / 누적 테이블에 각각 배치 인서트 (한 트랜잭션, 실패하면 전부 롤백)
+// 저장 후 GamesIngestedEvent 발행 (커밋 후에 처리하려면 @TransactionalEventListener 로 받음)
+// 진행 중인 경기의 칸이 바뀌면 ScoreboardChangedEvent 도 발행 (라이브 스코어 푸시)
+@Component
+public class ScoreBoardIngest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // 경기 목록 저장, 저장한 경기 수 반환 (season : 정규, 포스트 등)
+    @Transactional
+    public int ingest(List<GameSnapshot> games, String season) {
+        if (games.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(GameSnapshotBinder.INSERT_SCHEDULE, GameSnapshotBinder.schedule(games, season));
+        jdbcTemplate.batchUpdate(GameSnapshotBinder.INSERT_SCOREBOARD, GameSnapshotBinder.scoreboard(games, season));
+        jdbcTemplate.batchUpdate(GameSnapshotBinder.INSERT_CRAWLING_SCOREBOARD_SUM, GameSnapshotBinder.crawlingScoreboardSum(games));
+        eventPublisher.publishEvent(new GamesIngestedEvent(games, season));
+        return games.size();
+    }
+
+    // 진행 중인 경기의 scoreboard 행 하나 저장 (이미 있으면 덮어씀)
+    public void saveScoreboard(GameSnapshot game, String season) {
+        jdbcTemplate.update(GameSnapshotBinder.INSERT_SCOREBOARD, ps -> GameSnapshotBinder.bindScoreboard(ps, game, season));
+        eventPublisher.publishEvent(new GamesIngestedEvent(List.of(game), season));
+        eventPublisher.publishEvent(new ScoreboardChangedEvent(ScoreboardDiff.full(game)));
+    }
+
+    // 진행 중인 경기의 바뀐 칸만 갱신, 갱신된 행 수 반환
+    public int updateScoreboard(ScoreboardDiff diff) {
+        if (diff.isEmpty()) {
+            return 0;
+        }
+        int updated = jdbcTemplate.update(diff.getSql(), diff::bind);
+        if (updated > 0) {
+            eventPublisher.publishEvent(new ScoreboardChangedEvent(diff));
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.crawling;
+
+// 진행 중인 경기의 scoreboard 칸이 바뀌었을 때 발행하는 이벤트 (ScoreBoardIngest)
+// 바뀐 칸만 담고 있으므로 받는 쪽은 DB를 다시 읽지 않아도 됨
+public class ScoreboardChangedEvent {
+
+    private final ScoreboardDiff diff;
+
+    public ScoreboardChangedEvent(ScoreboardDiff diff) {
+        this.diff = diff;
+    }
+
+    public ScoreboardDiff getDiff() {
+        return diff;
+    }
+}
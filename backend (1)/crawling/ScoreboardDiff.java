@@ -0,0 +1,155 @@
+package com.example.crawling;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+// 같은 경기의 이전 스냅샷과 새 스냅샷을 비교해서 scoreboard 에서 바뀐 칸만 모은 것
+// 바뀐 컬럼만 SET 하는 UPDATE 문을 만들어 줌 (바뀐 게 없으면 isEmpty)
+public final class ScoreboardDiff {
+
+    // scoreboard 점수 칸 컬럼 (원정 1~15회, R H E B, 홈 1~15회, R H E B 순서)
+    static final List<String> CELL_COLUMNS;
+
+    static {
+        List<String> columns = new ArrayList<>();
+        for (String side : new String[] { "away", "home" }) {
+            for (int inning = 1; inning <= GameSnapshot.MAX_INNINGS; inning++) {
+                columns.add(side + "_inning" + inning);
+            }
+            columns.add(side + "_runs");
+            columns.add(side + "_hits");
+            columns.add(side + "_errors");
+            columns.add(side + "_balls");
+        }
+        CELL_COLUMNS = Collections.unmodifiableList(columns);
+    }
+
+    private final GameSnapshot game;
+    private final List<String> columns = new ArrayList<>();
+    private final List<Object> values = new ArrayList<>();
+
+    private ScoreboardDiff(GameSnapshot game) {
+        this.game = game;
+    }
+
+    public static ScoreboardDiff between(GameSnapshot before, GameSnapshot after) {
+        ScoreboardDiff diff = new ScoreboardDiff(after);
+        for (int i = 0; i < CELL_COLUMNS.size(); i++) {
+            int value = cell(after, i);
+            if (cell(before, i) != value) {
+                diff.columns.add(CELL_COLUMNS.get(i));
+                diff.values.add(value);
+            }
+        }
+        if (!Objects.equals(before.getAwayPitcher(), after.getAwayPitcher())) {
+            diff.columns.add("away_pitcher");
+            diff.values.add(after.getAwayPitcher());
+        }
+        if (!Objects.equals(before.getHomePitcher(), after.getHomePitcher())) {
+            diff.columns.add("home_pitcher");
+            diff.values.add(after.getHomePitcher());
+        }
+        if (!before.getStatus().equals(after.getStatus())) {
+            diff.columns.add("game_status");
+            diff.values.add(GameSnapshotBinder.statusValue(after));
+        }
+        if (!before.getAwayResult().equals(after.getAwayResult())) {
+            diff.columns.add("away_win_or_lose");
+            diff.values.add(after.getAwayResult());
+        }
+        if (!before.getHomeResult().equals(after.getHomeResult())) {
+            diff.columns.add("home_win_or_lose");
+            diff.values.add(after.getHomeResult());
+        }
+        return diff;
+    }
+
+    // 처음 보는 경기 : 모든 칸을 바뀐 것으로 봄 (라이브 구독자에게 전체 줄 점수 전달용)
+    public static ScoreboardDiff full(GameSnapshot game) {
+        ScoreboardDiff diff = new ScoreboardDiff(game);
+        for (int i = 0; i < CELL_COLUMNS.size(); i++) {
+            diff.columns.add(CELL_COLUMNS.get(i));
+            diff.values.add(cell(game, i));
+        }
+        diff.columns.add("away_pitcher");
+        diff.values.add(game.getAwayPitcher());
+        diff.columns.add("home_pitcher");
+        diff.values.add(game.getHomePitcher());
+        diff.columns.add("away_win_or_lose");
+        diff.values.add(game.getAwayResult());
+        diff.columns.add("home_win_or_lose");
+        diff.values.add(game.getHomeResult());
+        diff.columns.add("game_status");
+        diff.values.add(GameSnapshotBinder.statusValue(game));
+        return diff;
+    }
+
+    // CELL_COLUMNS 순서대로 셀 값
+    static int cell(GameSnapshot game, int index) {
+        int side = GameSnapshot.MAX_INNINGS + 4;
+        boolean away = index < side;
+        int i = away ? index : index - side;
+        if (i < GameSnapshot.MAX_INNINGS) {
+            return away ? game.getAwayInning(i + 1) : game.getHomeInning(i + 1);
+        }
+        switch (i - GameSnapshot.MAX_INNINGS) {
+            case 0:
+                return away ? game.getAwayRuns() : game.getHomeRuns();
+            case 1:
+                return away ? game.getAwayHits() : game.getHomeHits();
+            case 2:
+                return away ? game.getAwayErrors() : game.getHomeErrors();
+            default:
+                return away ? game.getAwayBalls() : game.getHomeBalls();
+        }
+    }
+
+    public boolean isEmpty() {
+        return columns.isEmpty();
+    }
+
+    public GameSnapshot getGame() {
+        return game;
+    }
+
+    public List<String> getColumns() {
+        return Collections.unmodifiableList(columns);
+    }
+
+    // getColumns 와 같은 순서의 바뀐 값 (scoreboard 에 들어가는 문자열 형태, 빈 칸은 null)
+    public String getValueText(int index) {
+        Object value = values.get(index);
+        return value instanceof Integer ? GameSnapshot.cellText((Integer) value) : (String) value;
+    }
+
+    // UPDATE scoreboard SET 바뀐컬럼 = ? ... WHERE 경기 일시 + 원정팀 + 홈팀
+    public String getSql() {
+        StringBuilder sql = new StringBuilder("UPDATE scoreboard SET ");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(columns.get(i)).append(" = ?");
+        }
+        return sql.append(" WHERE game_date = ? AND away_team = ? AND home_team = ?").toString();
+    }
+
+    public void bind(PreparedStatement ps) throws SQLException {
+        int i = 1;
+        for (Object value : values) {
+            if (value instanceof Integer) {
+                GameSnapshotBinder.setCell(ps, i++, (Integer) value);
+            } else {
+                ps.setString(i++, (String) value);
+            }
+        }
+        ps.setTimestamp(i++, Timestamp.valueOf(game.getGameDateTime()));
+        ps.setString(i++, game.getAwayTeam());
+        ps.setString(i, game.getHomeTeam());
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.crawling;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// 이미 DB에 저장된 경기 목록 (crawling_scoreboard_sum 기준)
+// 처음 한 번만 DB에서 읽어서 메모리에 들고 있고, 이후에는 Map 조회로 중복/변경 여부를 판단
+// 키 : 날짜 + 구장/시간 + 원정팀 + 홈팀 (crawling_scoreboard_sum 유니크 인덱스와 같은 컬럼)
+// 값 : 저장된 경기 지문 (GameSnapshot.getFingerprint, 지문 컬럼이 생기기 전에 저장된 경기는 "")
+@Component
+public class SeenGameRegistry {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Map<String, String> seen = new ConcurrentHashMap<>();
+    private volatile boolean loaded = false;
+
+    public boolean contains(GameSnapshot game) {
+        ensureLoaded();
+        return seen.containsKey(game.getKey());
+    }
+
+    // 저장된 경기이고 내용도 그대로인지 (true 면 DB 작업 불필요)
+    public boolean isUnchanged(GameSnapshot game) {
+        ensureLoaded();
+        return game.getFingerprint().equals(seen.get(game.getKey()));
+    }
+
+    public void add(GameSnapshot game) {
+        ensureLoaded();
+        seen.put(game.getKey(), game.getFingerprint());
+    }
+
+    public int size() {
+        ensureLoaded();
+        return seen.size();
+    }
+
+    // DB 내용이 바뀌었을 때 다시 읽도록 표시
+    public void reload() {
+        synchronized (this) {
+            loaded = false;
+        }
+        ensureLoaded();
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            String query = "SELECT date, ground_time, awayteam, hometeam, fingerprint FROM crawling_scoreboard_sum";
+            Map<String, String> rows = new ConcurrentHashMap<>();
+            jdbcTemplate.query(query, rs -> {
+                String fingerprint = rs.getString("fingerprint");
+                rows.put(GameSnapshot.key(rs.getString("date"), rs.getString("ground_time"), rs.getString("awayteam"), rs.getString("hometeam")),
+                        fingerprint == null ? "" : fingerprint);
+            });
+            seen.clear();
+            seen.putAll(rows);
+            loaded = true;
+        }
+    }
+}
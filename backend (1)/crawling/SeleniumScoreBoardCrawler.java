@@ -0,0 +1,199 @@
+package com.example.crawling;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.Select;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// 브라우저(Selenium)로 스코어보드 페이지를 열어 달력을 클릭하고 경기 데이터를 읽는 엔진
+@Component
+public class SeleniumScoreBoardCrawler implements ScoreBoardCrawler {
+
+    public static final String ENGINE_NAME = "selenium";
+
+    static final String SCOREBOARD_HOST = "www.koreabaseball.com";
+    static final String SCOREBOARD_URL = "https://" + SCOREBOARD_HOST + "/Schedule/ScoreBoard.aspx";
+
+    @Autowired
+    private WebDriverPool webDriverPool;
+
+    @Autowired
+    private HostRateLimiter hostRateLimiter;
+
+    @Autowired
+    private CrawlMetrics crawlMetrics;
+
+    @Autowired
+    private PageArchive pageArchive;
+
+    @Override
+    public String getEngineName() {
+        return ENGINE_NAME;
+    }
+
+    @Override
+    public List<GameSnapshot> crawl(LocalDate date) throws Exception {
+        List<GameSnapshot> games = new ArrayList<>();
+
+        // 풀에서 미리 떠 있는 WebDriver 세션을 빌려옴
+        WebDriver driver = webDriverPool.borrow();
+        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10)); // 명시적 대기 설정
+        boolean broken = false;
+
+        try (HostRateLimiter.Permit permit = hostRateLimiter.acquire(SCOREBOARD_HOST)) {
+            long start = System.nanoTime();
+            driver.get(SCOREBOARD_URL);
+            crawlMetrics.stage(CrawlMetrics.PAGE_LOAD, start);
+
+            start = System.nanoTime();
+            selectDate(wait, date);
+            crawlMetrics.stage(CrawlMetrics.DATE_SELECT, start);
+
+            // 필요한 데이터를 추출
+            extractGameData(driver, games);
+            ScoreBoardCrawler.requireDate(date, games);
+
+            // 원본 페이지 보관 (replay 엔진용, 요청한 날짜의 페이지인 것을 확인한 뒤)
+            if (pageArchive.isEnabled()) {
+                pageArchive.store(date, driver.getPageSource());
+            }
+        } catch (NoSuchSessionException e) {
+            // 세션 자체가 망가졌을 수 있으므로 풀에 돌려놓지 않음
+            broken = true;
+            throw e;
+        } finally {
+            // 브라우저는 종료하지 않고 풀에 반납
+            if (broken) {
+                webDriverPool.invalidate(driver);
+            } else {
+                webDriverPool.release(driver);
+            }
+        }
+        return games;
+    }
+
+    // 달력에서 날짜 선택 (실패하면 예외, 그대로 읽으면 다른 날 페이지를 그날 것으로 저장하게 됨)
+    private void selectDate(WebDriverWait wait, LocalDate date) {
+        String year = String.valueOf(date.getYear());
+        // jQuery datepicker 의 월 값은 0부터 시작
+        String month = String.valueOf(date.getMonthValue() - 1);
+        String day = String.valueOf(date.getDayOfMonth());
+
+        try {
+            // 달력 이미지 요소가 클릭 가능할 때까지 기다림
+            WebElement imageElement = wait.until(ExpectedConditions.elementToBeClickable(By.className("ui-datepicker-trigger")));
+            imageElement.click(); // 달력 열기
+
+            // 연도 선택
+            Select selectYear = new Select(wait.until(ExpectedConditions.visibilityOfElementLocated(By.className("ui-datepicker-year"))));
+            selectYear.selectByValue(year);
+
+            // 월 선택
+            Select selectMonth = new Select(wait.until(ExpectedConditions.visibilityOfElementLocated(By.className("ui-datepicker-month"))));
+            selectMonth.selectByValue(month);
+
+            // 날짜 클릭
+            WebElement dateElement = wait.until(ExpectedConditions.elementToBeClickable(
+                    By.xpath("//td[@data-month='" + month + "' and @data-year='" + year + "']/a[text()='" + day + "']")));
+            dateElement.click();
+
+            // 페이지가 로드되거나 업데이트될 시간을 기다림
+            wait.until(ExpectedConditions.invisibilityOfElementLocated(By.className("ui-datepicker-calendar"))); // 달력이 사라질 때까지 기다림
+
+        } catch (NoSuchElementException | StaleElementReferenceException e) {
+            throw new IllegalStateException("날짜 선택 실패 (" + date + "): " + e.getMessage(), e);
+        }
+    }
+
+    private void extractGameData(WebDriver driver, List<GameSnapshot> games) {
+        try {
+            // 날짜 추출
+            WebElement gameData = driver.findElement(By.cssSelector("li.today"));
+            String today = gameData.findElement(By.tagName("span")).getText();
+
+            // 빌더는 경기마다 reset 해서 재사용
+            GameSnapshot.Builder game = GameSnapshot.builder();
+
+            // 모든 smsScore 요소를 찾음
+            List<WebElement> smsScoreDivs = driver.findElements(By.cssSelector("div.smsScore"));
+            for (WebElement smsScoreDiv : smsScoreDivs) {
+                long start = System.nanoTime();
+                try {
+                    games.add(readGame(driver, smsScoreDiv, today, game.reset()));
+                } catch (IllegalArgumentException e) {
+                    crawlMetrics.parseFailed();
+                    System.out.println("경기 데이터 파싱 실패: " + e.getMessage());
+                }
+                crawlMetrics.stage(CrawlMetrics.EXTRACT_GAME, start);
+            }
+
+        } catch (NoSuchElementException e) {
+            System.out.println("Element not found: " + e.getMessage());
+        }
+    }
+
+    private GameSnapshot readGame(WebDriver driver, WebElement smsScoreDiv, String today, GameSnapshot.Builder game) {
+        game.date(today);
+
+        // 경기 상태 추출 (경기종료, 5회말 등, 없는 경우도 있음)
+        // 없을 때 암시적 대기만큼 멈추지 않도록 이 조회만 대기 없이
+        List<WebElement> flags;
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        try {
+            flags = smsScoreDiv.findElements(By.cssSelector("strong.flag"));
+        } finally {
+            driver.manage().timeouts().implicitlyWait(WebDriverPool.IMPLICIT_WAIT);
+        }
+        if (!flags.isEmpty()) {
+            game.status(flags.get(0).getText());
+        }
+
+        // 경기 장소와 시간 추출
+        game.groundTime(smsScoreDiv.findElement(By.cssSelector("p.place")).getText());
+
+        // 점수 테이블 추출
+        WebElement scoreTable = smsScoreDiv.findElement(By.cssSelector("table.tScore tbody"));
+        List<WebElement> rows = scoreTable.findElements(By.tagName("tr"));
+
+        int rowIndex = 0;
+        for (WebElement row : rows) {
+            List<WebElement> teamElements = row.findElements(By.tagName("th"));
+            String teamName = "";
+            if (!teamElements.isEmpty()) {
+                teamName = teamElements.get(0).getText();
+            }
+
+            // 셀 데이터 추출 (td 태그)
+            List<WebElement> cellElements = row.findElements(By.tagName("td"));
+            if (rowIndex == 0) {
+                game.awayTeam(teamName);
+                for (WebElement cell : cellElements) {
+                    game.awayCell(cell.getText());
+                }
+            } else if (rowIndex == 1) {
+                game.homeTeam(teamName);
+                for (WebElement cell : cellElements) {
+                    game.homeCell(cell.getText());
+                }
+            }
+            rowIndex++;
+        }
+
+        // 투수 추출
+        game.pitcher(smsScoreDiv.findElement(By.cssSelector("p.win")).getText());
+
+        return game.build();
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.crawling;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+// 크롤링용 WebDriver 세션 풀
+// 크롤링마다 크롬을 새로 띄우지 않고, 미리 떠 있는 세션을 빌려 쓰고 반납한다.
+// - 동시에 빌려갈 수 있는 세션 수는 maxSize 로 제한
+// - 빌려줄 때 세션이 살아있는지 확인하고, 죽었으면 폐기 후 새로 생성
+// - maxAge 가 지난 세션은 반납 시점에 폐기 (크롬 메모리 누수 방지)
+@Component
+public class WebDriverPool {
+
+    // 세션마다 거는 암시적 대기 (없을 수도 있는 요소를 찾을 때는 잠깐 0 으로 바꿨다가 이 값으로 되돌림)
+    static final Duration IMPLICIT_WAIT = Duration.ofSeconds(10);
+
+    private final int maxSize;
+    private final Duration maxAge;
+    private final Duration borrowTimeout;
+    private final Semaphore permits;
+
+    // 쉬고 있는 세션 (가장 최근에 반납된 세션부터 꺼냄)
+    private final Deque<PooledDriver> idle = new ArrayDeque<>();
+    // 빌려준 세션
+    private final Map<WebDriver, PooledDriver> leased = new IdentityHashMap<>();
+
+    private Supplier<WebDriver> driverFactory = WebDriverPool::createChromeDriver;
+    private boolean closed = false;
+
+    public WebDriverPool(@Value("${crawling.webdriver.pool-size:2}") int maxSize,
+                         @Value("${crawling.webdriver.max-age-minutes:60}") long maxAgeMinutes,
+                         @Value("${crawling.webdriver.borrow-timeout-seconds:120}") long borrowTimeoutSeconds) {
+        this.maxSize = maxSize;
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+        this.borrowTimeout = Duration.ofSeconds(borrowTimeoutSeconds);
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    // 테스트 등에서 크롬 대신 다른 드라이버를 쓰고 싶을 때 교체
+    public void setDriverFactory(Supplier<WebDriver> driverFactory) {
+        this.driverFactory = driverFactory;
+    }
+
+    // 세션 빌리기 (풀이 가득 차 있으면 borrowTimeout 만큼 대기)
+    public WebDriver borrow() throws InterruptedException {
+        if (!permits.tryAcquire(borrowTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException("WebDriver 세션을 " + borrowTimeout.getSeconds() + "초 안에 얻지 못했습니다.");
+        }
+        try {
+            PooledDriver pooled = takeHealthyIdle();
+            if (pooled == null) {
+                pooled = new PooledDriver(driverFactory.get());
+            }
+            synchronized (this) {
+                leased.put(pooled.driver, pooled);
+            }
+            return pooled.driver;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    // 세션 반납
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        PooledDriver pooled;
+        boolean discard;
+        synchronized (this) {
+            pooled = leased.remove(driver);
+            if (pooled == null) {
+                return;
+            }
+            discard = closed || pooled.isExpired(maxAge);
+            if (!discard) {
+                idle.push(pooled);
+            }
+        }
+        if (discard) {
+            quietQuit(pooled.driver);
+        }
+        permits.release();
+    }
+
+    // 크롤링 중 에러가 난 세션은 다시 쓰지 않고 폐기
+    public void invalidate(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        PooledDriver pooled;
+        synchronized (this) {
+            pooled = leased.remove(driver);
+        }
+        if (pooled == null) {
+            return;
+        }
+        quietQuit(pooled.driver);
+        permits.release();
+    }
+
+    public synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    public synchronized int getLeasedCount() {
+        return leased.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        Deque<PooledDriver> toQuit;
+        synchronized (this) {
+            closed = true;
+            toQuit = new ArrayDeque<>(idle);
+            idle.clear();
+        }
+        for (PooledDriver pooled : toQuit) {
+            quietQuit(pooled.driver);
+        }
+    }
+
+    // 살아있는 idle 세션 하나 꺼내기, 오래됐거나 죽은 세션은 버림
+    private PooledDriver takeHealthyIdle() {
+        while (true) {
+            PooledDriver pooled;
+            synchronized (this) {
+                if (closed) {
+                    throw new IllegalStateException("WebDriver 풀이 종료되었습니다.");
+                }
+                pooled = idle.poll();
+            }
+            if (pooled == null) {
+                return null;
+            }
+            if (!pooled.isExpired(maxAge) && isAlive(pooled.driver)) {
+                return pooled;
+            }
+            quietQuit(pooled.driver);
+        }
+    }
+
+    // 세션 헬스체크 (창 핸들 조회가 되면 살아있는 것으로 판단)
+    private boolean isAlive(WebDriver driver) {
+        try {
+            return driver.getWindowHandle() != null;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void quietQuit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            System.out.println("WebDriver 종료 실패: " + e.getMessage());
+        }
+    }
+
+    private static WebDriver createChromeDriver() {
+        // ChromeDriver 위치 설정
+        System.setProperty("webdriver.chrome.driver", "C:\\Users\\KOSMO\\Downloads\\chromedriver-win64\\chromedriver.exe");
+
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--disable-gpu"); // GPU 가속 사용안함
+        options.addArguments("--headless"); // 헤드리스 모드에서 실행 (UI를 띄우지 않음)
+        options.addArguments("--disable-extensions"); // 확장프로그램 사용안함
+
+        WebDriver driver = new ChromeDriver(options);
+        driver.manage().timeouts().pageLoadTimeout(Duration.ofMinutes(2)); // 페이지 로드 타임아웃 설정
+        driver.manage().timeouts().implicitlyWait(IMPLICIT_WAIT); // 암시적 대기 설정
+        return driver;
+    }
+
+    private static class PooledDriver {
+        private final WebDriver driver;
+        private final long createdAt = System.nanoTime();
+
+        PooledDriver(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        boolean isExpired(Duration maxAge) {
+            return System.nanoTime() - createdAt > maxAge.toNanos();
+        }
+    }
+}
@@ -0,0 +1,4 @@
+-- 크롤링 누적 테이블 경기 단위 중복 방지
+-- (날짜 + 구장/시간 + 원정팀 + 홈팀)
+ALTER TABLE crawling_scoreboard_sum
+    ADD UNIQUE INDEX uk_crawling_scoreboard_sum_game (date, ground_time, awayteam, hometeam);
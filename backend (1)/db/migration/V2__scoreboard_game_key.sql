@@ -0,0 +1,4 @@
+-- 스코어보드 경기 단위 중복 방지
+-- (경기 일시 + 원정팀 + 홈팀, 라이브 폴링 UPDATE 조건과 같은 컬럼)
+ALTER TABLE scoreboard
+    ADD UNIQUE INDEX uk_scoreboard_game (game_date, away_team, home_team);
@@ -0,0 +1,7 @@
+-- 크롤링 누적 테이블에 경기 지문 저장 (바뀌지 않은 경기는 다시 쓰지 않기 위함)
+ALTER TABLE crawling_scoreboard_sum
+    ADD COLUMN fingerprint CHAR(16) NULL;
+
+-- 스케쥴 경기 단위 중복 방지 (내용이 바뀐 경기를 다시 저장할 때 덮어쓰기)
+ALTER TABLE schedule
+    ADD UNIQUE INDEX uk_schedule_game (game_date, away, home);
@@ -0,0 +1,13 @@
+-- 기록 테이블 행 단위 중복 방지 (기록 크롤링 upsert 기준)
+ALTER TABLE batters
+    ADD UNIQUE INDEX uk_batters (year, batters_name, team_name);
+ALTER TABLE pitchers
+    ADD UNIQUE INDEX uk_pitchers (year, pitchers_name, team_name);
+ALTER TABLE defences
+    ADD UNIQUE INDEX uk_defences (year, defences_name, team_name, pos);
+ALTER TABLE batter_team_record
+    ADD UNIQUE INDEX uk_batter_team_record (year, team_name);
+ALTER TABLE pitchers_team_record
+    ADD UNIQUE INDEX uk_pitchers_team_record (year, team_name);
+ALTER TABLE defences_team_record
+    ADD UNIQUE INDEX uk_defences_team_record (year, team_name);
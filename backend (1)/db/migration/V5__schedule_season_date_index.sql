@@ -0,0 +1,4 @@
+-- 월별 일정/결과 조회 (season + game_date 범위)
+-- 날짜만으로 찾는 조회는 game_date 로 시작하는 uk_schedule_game / uk_scoreboard_game 인덱스 사용
+ALTER TABLE schedule
+    ADD INDEX idx_schedule_season_game_date (season, game_date);
@@ -0,0 +1,62 @@
+-- 승/무/패, 홈/원정 투수를 조회할 때마다 계산하지 않고 저장할 때 한 번만 계산
+-- (크롤링 저장 시 GameSnapshotBinder 가 같이 채움, 아래 UPDATE 는 기존 행 채우기)
+ALTER TABLE schedule
+    ADD COLUMN home_win_lose VARCHAR(2) NULL,
+    ADD COLUMN away_win_lose VARCHAR(2) NULL,
+    ADD COLUMN home_pitcher VARCHAR(50) NULL,
+    ADD COLUMN away_pitcher VARCHAR(50) NULL;
+
+ALTER TABLE scoreboard
+    ADD COLUMN away_win_or_lose VARCHAR(2) NULL,
+    ADD COLUMN home_win_or_lose VARCHAR(2) NULL;
+
+-- 점수가 없거나 취소된 경기는 ""
+UPDATE schedule
+SET home_win_lose = CASE
+        WHEN home_score IS NULL OR home_score = '' OR away_score IS NULL OR away_score = '' THEN ''
+        WHEN CAST(home_score AS SIGNED) > CAST(away_score AS SIGNED) THEN '승'
+        WHEN CAST(home_score AS SIGNED) < CAST(away_score AS SIGNED) THEN '패'
+        WHEN etc IN ('우천취소', '폭염취소', '구장취소', '미세먼지취소') THEN ''
+        ELSE '무'
+    END,
+    away_win_lose = CASE
+        WHEN home_score IS NULL OR home_score = '' OR away_score IS NULL OR away_score = '' THEN ''
+        WHEN CAST(away_score AS SIGNED) > CAST(home_score AS SIGNED) THEN '승'
+        WHEN CAST(away_score AS SIGNED) < CAST(home_score AS SIGNED) THEN '패'
+        WHEN etc IN ('우천취소', '폭염취소', '구장취소', '미세먼지취소') THEN ''
+        ELSE '무'
+    END;
+
+-- 이긴 팀은 승리투수, 진 팀은 패전투수
+-- 무승부는 기존 "구분_이름_팀" 형식에서 팀이 같은 쪽 이름
+UPDATE schedule
+SET home_pitcher = CASE home_win_lose
+        WHEN '승' THEN winning_pitcher
+        WHEN '패' THEN losing_pitcher
+        WHEN '무' THEN IF(SUBSTRING_INDEX(SUBSTRING_INDEX(winning_pitcher, '_', 3), '_', -1) = home,
+                          SUBSTRING_INDEX(SUBSTRING_INDEX(winning_pitcher, '_', 2), '_', -1),
+                          SUBSTRING_INDEX(SUBSTRING_INDEX(losing_pitcher, '_', 2), '_', -1))
+        ELSE ''
+    END,
+    away_pitcher = CASE away_win_lose
+        WHEN '승' THEN winning_pitcher
+        WHEN '패' THEN losing_pitcher
+        WHEN '무' THEN IF(SUBSTRING_INDEX(SUBSTRING_INDEX(winning_pitcher, '_', 3), '_', -1) = away,
+                          SUBSTRING_INDEX(SUBSTRING_INDEX(winning_pitcher, '_', 2), '_', -1),
+                          SUBSTRING_INDEX(SUBSTRING_INDEX(losing_pitcher, '_', 2), '_', -1))
+        ELSE ''
+    END;
+
+UPDATE scoreboard
+SET away_win_or_lose = CASE
+        WHEN away_runs IS NULL OR home_runs IS NULL THEN ''
+        WHEN CAST(away_runs AS SIGNED) > CAST(home_runs AS SIGNED) THEN '승'
+        WHEN CAST(away_runs AS SIGNED) < CAST(home_runs AS SIGNED) THEN '패'
+        ELSE '무'
+    END,
+    home_win_or_lose = CASE
+        WHEN away_runs IS NULL OR home_runs IS NULL THEN ''
+        WHEN CAST(home_runs AS SIGNED) > CAST(away_runs AS SIGNED) THEN '승'
+        WHEN CAST(home_runs AS SIGNED) < CAST(away_runs AS SIGNED) THEN '패'
+        ELSE '무'
+    END;
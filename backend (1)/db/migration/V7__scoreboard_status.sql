@@ -0,0 +1,5 @@
+-- 크롤링한 경기 상태 (strong.flag : 경기종료, 5회말, 우천취소 등)
+-- 라이브 폴링이 진행 중인 경기 행을 만들기 때문에 시간만으로는 경기종료/경기예정을 구분할 수 없음
+-- 비어 있으면 (예전 행, 상태를 못 읽은 경우) 조회할 때 시간으로 표시
+ALTER TABLE scoreboard
+    ADD COLUMN game_status VARCHAR(20) NULL;
@@ -1,9 +1,12 @@
 package com.example.mapper;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
 import com.example.community.dto.CommentReplyDTO;
 import com.example.community.dto.PostCommentStatsDto;
 import com.example.community.dto.PostWithCommentCountDTO;
@@ -31,8 +34,7 @@ public interface Mappers {
     List<ScheduleResults> selectAllResults(int year, int month);
     List<ScheduleResults> selectPostResults(int year, int month);
     List<ScoreBoard> selectAllScoreBoard(String date);
-    List<ScoreBoard> selectPrevScoreBoard(String date);
-    List<ScoreBoard> selectNextScoreBoard(String date);
+    List<String> selectScoreBoardGameDays();
     List<Defence> selectAllDefence(int year, String teamName);
     List<Batters> selectAllBatters(int year, String teamName);
     List<Pitchers> selectAllPitchers(int year, String teamName);
@@ -43,6 +45,11 @@ public interface Mappers {
     List<BattersTeamRecord> selectBattersTeamRecord(int year);
     List<PitchersTeamRecord> selectPitchersTeamRecord(int year);
     List<ScheduleResults> selectMainSchedule(String date);
+    // 정규시즌 결과가 난 경기 전체 (날짜 순, 목록을 만들지 않고 한 행씩 handler 로 전달, season : RegularSeasonResults.REGULAR)
+    void selectRegularSeasonFinals(@Param("season") String season, ResultHandler<ScheduleResults> handler);
+    // 시즌 내보내기 (from <= 경기일 < to, season 이 null 이면 전체, 한 행씩 읽는 커서)
+    Cursor<ScheduleResults> selectScheduleExport(@Param("from") LocalDate from, @Param("to") LocalDate to, @Param("season") String season);
+    Cursor<ScoreBoard> selectScoreBoardExport(@Param("from") LocalDate from, @Param("to") LocalDate to, @Param("season") String season);
     
     
     // 기표님 관리 매퍼
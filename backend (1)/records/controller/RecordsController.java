@@ -5,9 +5,11 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.example.records.model.Batters;
 import com.example.records.model.BattersTeamRecord;
@@ -17,6 +19,9 @@ import com.example.records.model.PitBatMatchup;
 import com.example.records.model.Pitchers;
 import com.example.records.model.PitchersTeamRecord;
 import com.example.records.service.RecordsService;
+import com.example.service.DataVersionClock;
+import com.example.service.ResponseCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
 
 @RestController
 @RequestMapping("/api") // API 경로를 '/api'로 시작하게 변경
@@ -25,32 +30,39 @@ public class RecordsController {
     @Autowired
     private RecordsService recordsService;
 
+    @Autowired
+    private ResponseCache responseCache;
+
     
     @GetMapping("/batters")
-    public Map<String, Object> getBattersRecords(int year, String teamName){
-    	List<Batters> batters = recordsService.getSelectAllBatters(year, teamName);
-    	Map<String, Object> response = new HashMap<>();
-    	response.put("batters", batters);
-    	
-    	return response;
+    public ResponseEntity<byte[]> getBattersRecords(int year, String teamName, WebRequest request) throws JsonProcessingException {
+    	// 지난 시즌 응답은 ResponseCache 에 보관된 바이트로 반환 (이 파일의 연도별 조회 모두 같음)
+    	return responseCache.respond(DataVersionClock.RECORDS, "batters|" + year + "|" + teamName, year, request, () -> {
+    		List<Batters> batters = recordsService.getSelectAllBatters(year, teamName);
+    		Map<String, Object> response = new HashMap<>();
+    		response.put("batters", batters);
+    		return response;
+    	});
     }
     
     @GetMapping("/defence")
-    public Map<String, Object> getDefenceRecords(int year, String teamName){
-    	List<Defence> defence = recordsService.getSelectAllDefence(year, teamName);
-    	Map<String, Object> response = new HashMap<>();
-    	response.put("defence", defence);
-    	
-    	return response;
+    public ResponseEntity<byte[]> getDefenceRecords(int year, String teamName, WebRequest request) throws JsonProcessingException {
+    	return responseCache.respond(DataVersionClock.RECORDS, "defence|" + year + "|" + teamName, year, request, () -> {
+    		List<Defence> defence = recordsService.getSelectAllDefence(year, teamName);
+    		Map<String, Object> response = new HashMap<>();
+    		response.put("defence", defence);
+    		return response;
+    	});
     }
     
     @GetMapping("/pitchers")
-    public Map<String, Object> getPitchersRecords(int year, String teamName){
-    	List<Pitchers> pitchers = recordsService.getselectAllPitchers(year, teamName);
-    	Map<String, Object> response = new HashMap<>();
-    	response.put("pitchers", pitchers);
-
-    	return response;
+    public ResponseEntity<byte[]> getPitchersRecords(int year, String teamName, WebRequest request) throws JsonProcessingException {
+    	return responseCache.respond(DataVersionClock.RECORDS, "pitchers|" + year + "|" + teamName, year, request, () -> {
+    		List<Pitchers> pitchers = recordsService.getselectAllPitchers(year, teamName);
+    		Map<String, Object> response = new HashMap<>();
+    		response.put("pitchers", pitchers);
+    		return response;
+    	});
     }
     
     @GetMapping("/pitbatmatchup")
@@ -80,29 +92,32 @@ public class RecordsController {
     }
     
     @GetMapping("/defencesteam")
-    public Map<String, Object> getDefencesTeamRecord(int year){
-    	List<DefencesTeamRecord> defencesteam = recordsService.getselectDefencesTeamRecords(year);
-    	Map<String, Object> response = new HashMap<>();
-    	response.put("defencesteam", defencesteam);
-
-    	return response;
+    public ResponseEntity<byte[]> getDefencesTeamRecord(int year, WebRequest request) throws JsonProcessingException {
+    	return responseCache.respond(DataVersionClock.RECORDS, "defencesteam|" + year, year, request, () -> {
+    		List<DefencesTeamRecord> defencesteam = recordsService.getselectDefencesTeamRecords(year);
+    		Map<String, Object> response = new HashMap<>();
+    		response.put("defencesteam", defencesteam);
+    		return response;
+    	});
     }
     
     @GetMapping("/pitchersteam")
-    public Map<String, Object> getPitchersTeamRecord(int year){
-    	List<PitchersTeamRecord> pitchersteam = recordsService.getselectPitchersTeamRecords(year);
-    	Map<String, Object> response = new HashMap<>();
-    	response.put("pitchersteam", pitchersteam);
-
-    	return response;
+    public ResponseEntity<byte[]> getPitchersTeamRecord(int year, WebRequest request) throws JsonProcessingException {
+    	return responseCache.respond(DataVersionClock.RECORDS, "pitchersteam|" + year, year, request, () -> {
+    		List<PitchersTeamRecord> pitchersteam = recordsService.getselectPitchersTeamRecords(year);
+    		Map<String, Object> response = new HashMap<>();
+    		response.put("pitchersteam", pitchersteam);
+    		return response;
+    	});
     }
     
     @GetMapping("/battersteam")
-    public Map<String, Object> getBattersTeamRecord(int year){
-    	List<BattersTeamRecord> battersteam = recordsService.getselectBattersTeamRecords(year);
-    	Map<String, Object> response = new HashMap<>();
-    	response.put("battersteam", battersteam);
-
-    	return response;
+    public ResponseEntity<byte[]> getBattersTeamRecord(int year, WebRequest request) throws JsonProcessingException {
+    	return responseCache.respond(DataVersionClock.RECORDS, "battersteam|" + year, year, request, () -> {
+    		List<BattersTeamRecord> battersteam = recordsService.getselectBattersTeamRecords(year);
+    		Map<String, Object> response = new HashMap<>();
+    		response.put("battersteam", battersteam);
+    		return response;
+    	});
     }
 }
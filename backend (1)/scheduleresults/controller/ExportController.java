@@ -0,0 +1,57 @@
+package com.example.scheduleresults.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.example.scheduleresults.service.ExportService;
+
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+
+    @Autowired
+    private ExportService exportService;
+
+    // 시즌 내보내기 (GET /api/export/schedule 또는 /api/export/scoreboard)
+    // from ~ to 연도 (to 를 안 주면 from 한 해), season : 정규/포스트 (안 주면 전체), format : ndjson / csv
+    // 운영 DB(MySQL) 설정 : spring.datasource.url 에 useCursorFetch=true 를 붙여야 함
+    //   예) jdbc:mysql://localhost:3306/baseball?useCursorFetch=true
+    //   없으면 Connector/J 가 결과 전체를 메모리에 읽은 뒤 커서에 넘겨서 (mappers.xml 의 fetchSize 무시) 기간이 길면 메모리를 많이 씀
+    @GetMapping("/{table}")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable("table") String table,
+                                                        @RequestParam("from") int fromYear,
+                                                        @RequestParam(value = "to", required = false) Integer toYear,
+                                                        @RequestParam(value = "season", required = false) String season,
+                                                        @RequestParam(value = "format", defaultValue = ExportService.NDJSON) String format) {
+        int lastYear = toYear == null ? fromYear : toYear;
+        boolean schedule = "schedule".equals(table);
+        if ((!schedule && !"scoreboard".equals(table)) || !ExportService.isSupported(format) || lastYear < fromYear) {
+            return ResponseEntity.badRequest().build();
+        }
+        LocalDate from = LocalDate.of(fromYear, 1, 1);
+        LocalDate to = LocalDate.of(lastYear + 1, 1, 1);
+
+        StreamingResponseBody body = out -> {
+            if (schedule) {
+                exportService.exportSchedule(from, to, season, format, out);
+            } else {
+                exportService.exportScoreBoard(from, to, season, format, out);
+            }
+        };
+        boolean csv = ExportService.CSV.equals(format);
+        String fileName = table + "_" + fromYear + (lastYear == fromYear ? "" : "-" + lastYear) + "." + format;
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+}
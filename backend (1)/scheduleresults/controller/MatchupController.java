@@ -0,0 +1,52 @@
+package com.example.scheduleresults.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import com.example.scheduleresults.service.MatchupService;
+import com.example.service.DataVersionClock;
+
+@RestController
+@RequestMapping("/api")
+public class MatchupController {
+
+    @Autowired
+    private MatchupService matchupService;
+
+    @Autowired
+    private DataVersionClock dataVersionClock;
+
+    // 팀 간 상대 전적 (GET)
+    @GetMapping("/headtohead")
+    public Map<String, Object> getHeadToHead(@RequestParam(value = "year", defaultValue = "2024") int year, WebRequest request) {
+        if (dataVersionClock.checkNotModified(DataVersionClock.SCHEDULE, "headtohead", request)) {
+            return null;
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("teams", matchupService.getTeams(year));
+        response.put("headToHead", matchupService.getHeadToHead(year));
+        response.put("year", year);
+        
+        return response;  // JSON 형식으로 반환
+    }
+
+    // 팀별 홈/원정, 월별 기록 (GET, team 을 안 주면 전체 팀)
+    @GetMapping("/splits")
+    public Map<String, Object> getSplits(@RequestParam(value = "year", defaultValue = "2024") int year,
+                                         @RequestParam(value = "team", required = false) String team, WebRequest request) {
+        if (dataVersionClock.checkNotModified(DataVersionClock.SCHEDULE, "splits", request)) {
+            return null;
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("splits", matchupService.getSplits(year, team));
+        response.put("year", year);
+        response.put("team", team);
+        
+        return response;  // JSON 형식으로 반환
+    }
+}
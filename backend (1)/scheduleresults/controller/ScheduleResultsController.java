@@ -1,16 +1,27 @@
 package com.example.scheduleresults.controller;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import com.example.scheduleresults.model.ScheduleResults;
 import com.example.scheduleresults.model.ScoreBoard;
+import com.example.scheduleresults.service.MainScheduleSnapshot;
 import com.example.scheduleresults.service.ResultsService;
+import com.example.scheduleresults.service.ScoreboardBroadcaster;
+import com.example.scheduleresults.service.StandingsService;
+import com.example.service.DataVersionClock;
+import com.example.service.ResponseCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
 
 @RestController
 @RequestMapping("/api") // API 경로를 '/api'로 시작하게 변경
@@ -18,43 +29,67 @@ public class ScheduleResultsController {
 
     @Autowired
     private ResultsService resultsService;
+
+    @Autowired
+    private ScoreboardBroadcaster scoreboardBroadcaster;
+
+    @Autowired
+    private StandingsService standingsService;
+
+    @Autowired
+    private MainScheduleSnapshot mainScheduleSnapshot;
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Autowired
+    private DataVersionClock dataVersionClock;
     
     // 결과 조회 (GET)
     @GetMapping("/scheduleresults")
-    public Map<String, Object> getResultsPage(@RequestParam(value = "year", defaultValue = "2024") int year,
-                                  @RequestParam(value = "month", defaultValue = "08") int month) {
+    public ResponseEntity<byte[]> getResultsPage(@RequestParam(value = "year", defaultValue = "2024") int year,
+                                  @RequestParam(value = "month", defaultValue = "08") int month,
+                                  WebRequest request) throws JsonProcessingException {
 
-        List<ScheduleResults> scheduleResults = resultsService.getAllResults(year, month);
-        Map<String, Object> response = new HashMap<>();
-        response.put("scheduleResults", scheduleResults);
-        response.put("year", year);
-        response.put("month", month);
-        
-        return response;  // JSON 형식으로 반환
+        // 지난 시즌은 ResponseCache 에 보관된 바이트로 반환
+        return responseCache.respond(DataVersionClock.SCHEDULE, "scheduleresults|" + year + "|" + month, year, request, () -> {
+            List<ScheduleResults> scheduleResults = resultsService.getAllResults(year, month);
+            Map<String, Object> response = new HashMap<>();
+            response.put("scheduleResults", scheduleResults);
+            response.put("year", year);
+            response.put("month", month);
+            return response;
+        });
     }
     
     @GetMapping("/postscheduleresults")
-    public Map<String, Object> getPostResultsPage(@RequestParam(value = "year", defaultValue = "2023") int year,
-                                  @RequestParam(value = "month", defaultValue = "10") int month) {
+    public ResponseEntity<byte[]> getPostResultsPage(@RequestParam(value = "year", defaultValue = "2023") int year,
+                                  @RequestParam(value = "month", defaultValue = "10") int month,
+                                  WebRequest request) throws JsonProcessingException {
 
-        List<ScheduleResults> postScheduleResults = resultsService.getPostResults(year, month);
-        Map<String, Object> response = new HashMap<>();
-        response.put("postScheduleResults", postScheduleResults);
-        response.put("year", year);
-        response.put("month", month);
-        
-        return response;  // JSON 형식으로 반환
+        return responseCache.respond(DataVersionClock.SCHEDULE, "postscheduleresults|" + year + "|" + month, year, request, () -> {
+            List<ScheduleResults> postScheduleResults = resultsService.getPostResults(year, month);
+            Map<String, Object> response = new HashMap<>();
+            response.put("postScheduleResults", postScheduleResults);
+            response.put("year", year);
+            response.put("month", month);
+            return response;
+        });
     }
 
     // 점수보드 조회 (GET)
     @GetMapping("/scoreboard")
-    public Map<String, Object> getScoreboardPage(@RequestParam(value = "date", required = false, defaultValue = "2024-08-13") String date) {
-        List<ScoreBoard> scoreBoard = resultsService.getSelectAllScoreBoard(date);
-        Map<String, Object> response = new HashMap<>();
-        response.put("scoreBoard", scoreBoard);
-        response.put("date", date);
-        
-        return response;  // JSON 형식으로 반환
+    public ResponseEntity<byte[]> getScoreboardPage(@RequestParam(value = "date", required = false, defaultValue = "2024-08-13") String date,
+                                                    WebRequest request) throws JsonProcessingException {
+        // 오늘 이후 스코어보드는 경기 시작 시각에 경기종료/경기예정 표시가 바뀌므로 버전 검사 안 함
+        String domain = isPastDate(date) ? DataVersionClock.SCHEDULE : null;
+        return responseCache.respond(domain, "scoreboard|" + date, ResponseCache.yearOf(date), request, () -> {
+            List<ScoreBoard> scoreBoard = resultsService.getSelectAllScoreBoard(date);
+            Map<String, Object> response = new HashMap<>();
+            response.put("scoreBoard", scoreBoard);
+            response.put("date", date);
+            return response;
+        });
     }
     
     @GetMapping("/prevscoreboard")
@@ -67,6 +102,24 @@ public class ScheduleResultsController {
         return response;  // JSON 형식으로 반환
     }
     
+    // 스코어보드가 있는 날짜 목록 (달력 표시용)
+    @GetMapping("/scoreboard/gamedays")
+    public Map<String, Object> getScoreboardGameDays(WebRequest request) {
+        if (dataVersionClock.checkNotModified(DataVersionClock.SCHEDULE, "gamedays", request)) {
+            return null;
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("gameDays", resultsService.getGameDayList());
+        
+        return response;  // JSON 형식으로 반환
+    }
+    
+    // 라이브 스코어 스트림 (SSE, 진행 중인 경기의 바뀐 칸만 "score" 이벤트로 전송)
+    @GetMapping(value = "/scoreboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamScoreboard() {
+        return scoreboardBroadcaster.subscribe();
+    }
+    
     @GetMapping("/nextscoreboard")
     public Map<String, Object> getNextScoreboardPage(@RequestParam(value = "date", required = false) String date) {
         List<ScoreBoard> scoreBoard = resultsService.getSelectNextScoreBoard(date);
@@ -78,13 +131,39 @@ public class ScheduleResultsController {
     }
     
 
+    // 정규시즌 순위표 (연도를 안 주면 기록이 있는 가장 최근 연도)
+    @GetMapping("/standings")
+    public Map<String, Object> getStandings(@RequestParam(value = "year", required = false) Integer year, WebRequest request) {
+        if (dataVersionClock.checkNotModified(DataVersionClock.SCHEDULE, "standings", request)) {
+            return null;
+        }
+        if (year == null) {
+            year = standingsService.getLatestYear();
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("standings", year == null ? List.of() : standingsService.getStandings(year));
+        response.put("year", year);
+        
+        return response;  // JSON 형식으로 반환
+    }
+    
+    // 오늘/내일은 미리 만들어 둔 JSON 을 그대로 반환
+    // 경기종료/경기예정 표시가 오늘 날짜에 따라 달라지므로 ETag 에 오늘 날짜를 붙임
     @GetMapping("/mainschedule")
-    public Map<String, Object> getMainSchedule(@RequestParam(value = "date") String date){
-    	List<ScheduleResults> mainSchedule = resultsService.getMainResults(date);
-    	Map<String, Object> response = new HashMap<>();
-    	response.put("mainSchedule", mainSchedule);
-    	response.put("date", date);
-    	
-    	return response;
+    public ResponseEntity<byte[]> getMainSchedule(@RequestParam(value = "date") String date, WebRequest request) throws JsonProcessingException {
+    	if (dataVersionClock.checkNotModified(DataVersionClock.SCHEDULE, LocalDate.now().toString(), "mainschedule", request)) {
+    		return null;
+    	}
+    	return ResponseEntity.ok()
+    			.contentType(MediaType.APPLICATION_JSON)
+    			.body(mainScheduleSnapshot.get(date));
+    }
+    
+    private static boolean isPastDate(String date) {
+        try {
+            return LocalDate.parse(date).isBefore(LocalDate.now());
+        } catch (Exception e) {
+            return false;
+        }
     }
 }
@@ -138,105 +138,37 @@ public class ScheduleResults {
 	
 	
 	
+	// 승/무/패, 홈/원정 투수는 저장할 때 계산된 컬럼 (schedule.home_win_lose 등) 을 그대로 매핑
 	public String getHomeWinLose() {
 		return homeWinLose;
 	}
 
-	public void setHomeWinLose() {
-		if(this.homeScore != null) {
-			if(Integer.parseInt(this.homeScore) > Integer.parseInt(this.awayScore)) {
-				this.homeWinLose = "승";
-			} else if(Integer.parseInt(this.homeScore) < Integer.parseInt(this.awayScore)){
-				this.homeWinLose = "패";
-			} else {
-				if(this.etc.equals("우천취소") || this.etc.equals("폭염취소") || this.etc.equals("구장취소")
-						|| this.etc.equals("미세먼지취소") || homeScore == null || homeScore.equals("")) {
-					this.homeWinLose = "";
-				} else {
-					this.homeWinLose = "무";
-				}
-			}
-		} else {
-			if(this.etc.equals("우천취소") || this.etc.equals("폭염취소") || this.etc.equals("구장취소")
-					|| this.etc.equals("미세먼지취소") || homeScore == null || homeScore.equals("")) {
-				this.homeWinLose = "";
-				}
-		}
-
+	public void setHomeWinLose(String homeWinLose) {
+		this.homeWinLose = homeWinLose;
 	}
 
 	public String getAwayWinLose() {
 		return awayWinLose;
 	}
 
-	public void setAwayWinLose() {
-		if(awayScore != null) {
-			if(Integer.parseInt(this.awayScore) > Integer.parseInt(this.homeScore)) {
-				this.awayWinLose = "승";
-			} else if(Integer.parseInt(this.awayScore) < Integer.parseInt(this.homeScore)){
-				this.awayWinLose = "패";
-			} else {
-				if(this.etc.equals("우천취소") || this.etc.equals("폭염취소") || this.etc.equals("구장취소") || this.etc.equals("미세먼지취소")
-						 || homeScore == null || homeScore.equals("")) {
-					this.awayWinLose = "";
-				} else {
-					this.awayWinLose = "무";
-				}
-			}
-		} else {
-			if(this.etc.equals("우천취소") || this.etc.equals("폭염취소") || this.etc.equals("구장취소") || this.etc.equals("미세먼지취소")
-					 || homeScore == null || homeScore.equals("")) {
-				this.awayWinLose = "";
-			}
-		}
-	
+	public void setAwayWinLose(String awayWinLose) {
+		this.awayWinLose = awayWinLose;
 	}
 
 	public String getHomePitcher() {
 		return homePitcher;
 	}
 
-	public void setHomePitcher() {
-			if(this.homeWinLose == "승") {
-				this.homePitcher = winningPitcher;
-			} else if(this.homeWinLose == "무"){
-				String[] winp = this.winningPitcher.split("_");
-				String[] losep = this.losingPitcher.split("_");
-				if(winp[2].equals(home)) {
-					this.homePitcher = winp[1];
-				} else {
-					this.homePitcher = losep[1];
-				}
-			} else if(this.homeWinLose == "패") {
-				this.homePitcher = losingPitcher;
-			} else {
-				this.homePitcher = "";
-			}
-		
-		
+	public void setHomePitcher(String homePitcher) {
+		this.homePitcher = homePitcher;
 	}
 
 	public String getAwayPitcher() {
 		return awayPitcher;
 	}
 
-	public void setAwayPitcher() {
-			if(this.awayWinLose == "승") {
-				this.awayPitcher = winningPitcher;
-			} else if(this.awayWinLose == "무") {
-				String[] winp = this.winningPitcher.split("_");
-				String[] losep = this.losingPitcher.split("_");
-				if(winp[2].equals(away)) {
-					this.awayPitcher = winp[1];
-				} else {
-					this.awayPitcher = winp[1];
-				}
-			} else if(this.awayWinLose == "패"){
-				this.awayPitcher = losingPitcher;	
-			} else {
-				this.awayPitcher = "";
-			}
-		}
-	
+	public void setAwayPitcher(String awayPitcher) {
+		this.awayPitcher = awayPitcher;
+	}
 	
 }
\ No newline at end of file
@@ -1,75 +1,140 @@
 package com.example.scheduleresults.model;
 
-import java.text.SimpleDateFormat;
-import java.time.LocalDate;
-import java.util.Date;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+// 스코어보드 한 경기
+// 점수 칸 48개를 String 필드로 두지 않고 원정/홈 short 배열 (1~15회 + R H E B) 에 저장
+// 빈 칸은 EMPTY, "-" 는 NOT_PLAYED, "X" 는 SKIPPED, 숫자가 아닌 다른 값은 extra 에 문자열 그대로 보관
+// JSON 은 ScoreBoardSerializer 가 기존 필드 순서/문자열 형식 그대로 씀
+@JsonSerialize(using = ScoreBoardSerializer.class)
 public class ScoreBoard {
-	 private Date gameDate;
-	 private String time;
-	 private String ground;
-	 private String status;
-	 private String awayTeam;
-	 private String awayWinOrLose;
-	 private String awayInning1;
-	 private String awayInning2;
-	 private String awayInning3;
-	 private String awayInning4;
-	 private String awayInning5;
-	 private String awayInning6;
-	 private String awayInning7;
-	 private String awayInning8;
-	 private String awayInning9;
-	 private String awayInning10;
-	 private String awayInning11;
-	 private String awayInning12;
-	 private String awayInning13;
-	 private String awayInning14;
-	 private String awayInning15;
-	 private String awayRuns;
-	 private String awayHits;
-	 private String awayErrors;
-	 private String awayBalls;
-	 private String awayPitcher;
-	 private String homeTeam;
-	 private String homeWinOrLose;
-	 private String homeInning1;
-	 private String homeInning2;
-	 private String homeInning3;
-	 private String homeInning4;
-	 private String homeInning5;
-	 private String homeInning6;
-	 private String homeInning7;
-	 private String homeInning8;
-	 private String homeInning9;
-	 private String homeInning10;
-	 private String homeInning11;
-	 private String homeInning12;
-	 private String homeInning13;
-	 private String homeInning14;
-	 private String homeInning15;
-	 private String homeRuns;
-	 private String homeHits;
-	 private String homeErrors;
-	 private String homeBalls;
-	 private String homePitcher;
-	 
+	public static final int INNINGS = 15;
+	// 배열 안 위치 (INNINGS 다음부터 R H E B)
+	static final int RUNS = INNINGS;
+	static final int HITS = INNINGS + 1;
+	static final int ERRORS = INNINGS + 2;
+	static final int BALLS = INNINGS + 3;
+	public static final int CELLS = INNINGS + 4;
+
+	static final short EMPTY = -1;
+	static final short NOT_PLAYED = -2;
+	static final short SKIPPED = -3;
+	static final short EXTRA = -4;
+
+	private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+	private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+	// 0~99 점수 문자열 (직렬화할 때마다 새로 만들지 않음)
+	private static final String[] NUMBER_TEXT = new String[100];
+
+	static {
+		for (int i = 0; i < NUMBER_TEXT.length; i++) {
+			NUMBER_TEXT[i] = Integer.toString(i);
+		}
+	}
+
+	private LocalDateTime gameDate;
+	private String ground;
+	private String status;
+	private String awayTeam;
+	private String awayWinOrLose;
+	private String awayPitcher;
+	private String homeTeam;
+	private String homeWinOrLose;
+	private String homePitcher;
+	private final short[] away = newCells();
+	private final short[] home = newCells();
+	// 숫자/"-"/"X" 가 아닌 칸 (거의 없으므로 필요할 때만 생성, 원정 0~18, 홈 19~37)
+	private String[] extra;
+
+	private static short[] newCells() {
+		short[] cells = new short[CELLS];
+		Arrays.fill(cells, EMPTY);
+		return cells;
+	}
+
+	// 칸 문자열 -> short
+	private void setCell(short[] cells, int index, String value) {
+		int offset = cells == away ? 0 : CELLS;
+		if (extra != null) {
+			extra[offset + index] = null;
+		}
+		if (value == null) {
+			cells[index] = EMPTY;
+		} else if (value.equals("-")) {
+			cells[index] = NOT_PLAYED;
+		} else if (value.equals("X")) {
+			cells[index] = SKIPPED;
+		} else {
+			short number = parse(value);
+			if (number >= 0) {
+				cells[index] = number;
+			} else {
+				if (extra == null) {
+					extra = new String[CELLS * 2];
+				}
+				extra[offset + index] = value;
+				cells[index] = EXTRA;
+			}
+		}
+	}
+
+	private static short parse(String value) {
+		if (value.isEmpty() || value.length() > 4 || (value.length() > 1 && value.charAt(0) == '0')) {
+			return -1;
+		}
+		int number = 0;
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			number = number * 10 + (c - '0');
+		}
+		return (short) number;
+	}
+
+	// short -> 칸 문자열 (기존 String 필드에 들어 있던 값 그대로)
+	private String getCell(short[] cells, int index) {
+		short value = cells[index];
+		switch (value) {
+			case EMPTY:
+				return null;
+			case NOT_PLAYED:
+				return "-";
+			case SKIPPED:
+				return "X";
+			case EXTRA:
+				return extra[(cells == away ? 0 : CELLS) + index];
+			default:
+				return value < NUMBER_TEXT.length ? NUMBER_TEXT[value] : Integer.toString(value);
+		}
+	}
+
+	// 칸 하나 (index 0~14 는 1~15회, 15~18 은 R H E B, 직렬화/내보내기용)
+	public String getAwayCell(int index) {
+		return getCell(away, index);
+	}
+
+	public String getHomeCell(int index) {
+		return getCell(home, index);
+	}
+
+	public LocalDateTime getGameDateTime() {
+		return gameDate;
+	}
 
 	public String getGameDate() {
-		SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd");
-		String gamedate = df.format(gameDate);
-		return gamedate;
+		return gameDate == null ? null : DATE_FORMAT.format(gameDate);
 	}
-	public void setGameDate(Date gameDate) {
+	public void setGameDate(LocalDateTime gameDate) {
 		this.gameDate = gameDate;
 	}
 	public String getTime() {
-		SimpleDateFormat df = new SimpleDateFormat("HH:mm");
-		String time = df.format(gameDate);
-		return time;
-	}
-	public void setTime(String time) {
-		this.time = time;
+		return gameDate == null ? null : TIME_FORMAT.format(gameDate);
 	}
 	public String getGround() {
 		return ground;
@@ -84,120 +149,119 @@ public class ScoreBoard {
 		this.awayTeam = awayTeam;
 	}
 	public String getAwayInning1() {
-		return awayInning1;
+		return getCell(away, 0);
 	}
 	public void setAwayInning1(String awayInning1) {
-		this.awayInning1 = awayInning1;
+		setCell(away, 0, awayInning1);
 	}
 	public String getAwayInning2() {
-		return awayInning2;
+		return getCell(away, 1);
 	}
 	public void setAwayInning2(String awayInning2) {
-		this.awayInning2 = awayInning2;
+		setCell(away, 1, awayInning2);
 	}
 	public String getAwayInning3() {
-		return awayInning3;
+		return getCell(away, 2);
 	}
 	public void setAwayInning3(String awayInning3) {
-		this.awayInning3 = awayInning3;
+		setCell(away, 2, awayInning3);
 	}
 	public String getAwayInning4() {
-		return awayInning4;
+		return getCell(away, 3);
 	}
 	public void setAwayInning4(String awayInning4) {
-		this.awayInning4 = awayInning4;
+		setCell(away, 3, awayInning4);
 	}
 	public String getAwayInning5() {
-		return awayInning5;
+		return getCell(away, 4);
 	}
 	public void setAwayInning5(String awayInning5) {
-		this.awayInning5 = awayInning5;
+		setCell(away, 4, awayInning5);
 	}
 	public String getAwayInning6() {
-		return awayInning6;
+		return getCell(away, 5);
 	}
 	public void setAwayInning6(String awayInning6) {
-		this.awayInning6 = awayInning6;
+		setCell(away, 5, awayInning6);
 	}
 	public String getAwayInning7() {
-		return awayInning7;
+		return getCell(away, 6);
 	}
 	public void setAwayInning7(String awayInning7) {
-		this.awayInning7 = awayInning7;
+		setCell(away, 6, awayInning7);
 	}
 	public String getAwayInning8() {
-		return awayInning8;
+		return getCell(away, 7);
 	}
 	public void setAwayInning8(String awayInning8) {
-		this.awayInning8 = awayInning8;
+		setCell(away, 7, awayInning8);
 	}
 	public String getAwayInning9() {
-		return awayInning9;
+		return getCell(away, 8);
 	}
 	public void setAwayInning9(String awayInning9) {
-		this.awayInning9 = awayInning9;
+		setCell(away, 8, awayInning9);
 	}
 	public String getAwayInning10() {
-		return awayInning10;
+		return getCell(away, 9);
 	}
 	public void setAwayInning10(String awayInning10) {
-		this.awayInning10 = awayInning10;
+		setCell(away, 9, awayInning10);
 	}
 	public String getAwayInning11() {
-		return awayInning11;
+		return getCell(away, 10);
 	}
 	public void setAwayInning11(String awayInning11) {
-		this.awayInning11 = awayInning11;
+		setCell(away, 10, awayInning11);
 	}
 	public String getAwayInning12() {
-		return awayInning12;
+		return getCell(away, 11);
 	}
 	public void setAwayInning12(String awayInning12) {
-		this.awayInning12 = awayInning12;
+		setCell(away, 11, awayInning12);
 	}
 	public String getAwayInning13() {
-		return awayInning13;
+		return getCell(away, 12);
 	}
 	public void setAwayInning13(String awayInning13) {
-		this.awayInning13 = awayInning13;
+		setCell(away, 12, awayInning13);
 	}
 	public String getAwayInning14() {
-		return awayInning14;
+		return getCell(away, 13);
 	}
 	public void setAwayInning14(String awayInning14) {
-		this.awayInning14 = awayInning14;
+		setCell(away, 13, awayInning14);
 	}
 	public String getAwayInning15() {
-		return awayInning15;
+		return getCell(away, 14);
 	}
 	public void setAwayInning15(String awayInning15) {
-		this.awayInning15 = awayInning15;
+		setCell(away, 14, awayInning15);
 	}
 	public String getAwayRuns() {
-		return awayRuns;
+		return getCell(away, RUNS);
 	}
 	public void setAwayRuns(String awayRuns) {
-		this.awayRuns = awayRuns;
+		setCell(away, RUNS, awayRuns);
 	}
 	public String getAwayHits() {
-		return awayHits;
+		return getCell(away, HITS);
 	}
 	public void setAwayHits(String awayHits) {
-		this.awayHits = awayHits;
+		setCell(away, HITS, awayHits);
 	}
 	public String getAwayErrors() {
-		return awayErrors;
+		return getCell(away, ERRORS);
 	}
 	public void setAwayErrors(String awayErrors) {
-		this.awayErrors = awayErrors;
+		setCell(away, ERRORS, awayErrors);
 	}
 	public String getAwayBalls() {
-		return awayBalls;
+		return getCell(away, BALLS);
 	}
 	public void setAwayBalls(String awayBalls) {
-		this.awayBalls = awayBalls;
+		setCell(away, BALLS, awayBalls);
 	}
-
 	public String getHomeTeam() {
 		return homeTeam;
 	}
@@ -205,118 +269,118 @@ public class ScoreBoard {
 		this.homeTeam = homeTeam;
 	}
 	public String getHomeInning1() {
-		return homeInning1;
+		return getCell(home, 0);
 	}
 	public void setHomeInning1(String homeInning1) {
-		this.homeInning1 = homeInning1;
+		setCell(home, 0, homeInning1);
 	}
 	public String getHomeInning2() {
-		return homeInning2;
+		return getCell(home, 1);
 	}
 	public void setHomeInning2(String homeInning2) {
-		this.homeInning2 = homeInning2;
+		setCell(home, 1, homeInning2);
 	}
 	public String getHomeInning3() {
-		return homeInning3;
+		return getCell(home, 2);
 	}
 	public void setHomeInning3(String homeInning3) {
-		this.homeInning3 = homeInning3;
+		setCell(home, 2, homeInning3);
 	}
 	public String getHomeInning4() {
-		return homeInning4;
+		return getCell(home, 3);
 	}
 	public void setHomeInning4(String homeInning4) {
-		this.homeInning4 = homeInning4;
+		setCell(home, 3, homeInning4);
 	}
 	public String getHomeInning5() {
-		return homeInning5;
+		return getCell(home, 4);
 	}
 	public void setHomeInning5(String homeInning5) {
-		this.homeInning5 = homeInning5;
+		setCell(home, 4, homeInning5);
 	}
 	public String getHomeInning6() {
-		return homeInning6;
+		return getCell(home, 5);
 	}
 	public void setHomeInning6(String homeInning6) {
-		this.homeInning6 = homeInning6;
+		setCell(home, 5, homeInning6);
 	}
 	public String getHomeInning7() {
-		return homeInning7;
+		return getCell(home, 6);
 	}
 	public void setHomeInning7(String homeInning7) {
-		this.homeInning7 = homeInning7;
+		setCell(home, 6, homeInning7);
 	}
 	public String getHomeInning8() {
-		return homeInning8;
+		return getCell(home, 7);
 	}
 	public void setHomeInning8(String homeInning8) {
-		this.homeInning8 = homeInning8;
+		setCell(home, 7, homeInning8);
 	}
 	public String getHomeInning9() {
-		return homeInning9;
+		return getCell(home, 8);
 	}
 	public void setHomeInning9(String homeInning9) {
-		this.homeInning9 = homeInning9;
+		setCell(home, 8, homeInning9);
 	}
 	public String getHomeInning10() {
-		return homeInning10;
+		return getCell(home, 9);
 	}
 	public void setHomeInning10(String homeInning10) {
-		this.homeInning10 = homeInning10;
+		setCell(home, 9, homeInning10);
 	}
 	public String getHomeInning11() {
-		return homeInning11;
+		return getCell(home, 10);
 	}
 	public void setHomeInning11(String homeInning11) {
-		this.homeInning11 = homeInning11;
+		setCell(home, 10, homeInning11);
 	}
 	public String getHomeInning12() {
-		return homeInning12;
+		return getCell(home, 11);
 	}
 	public void setHomeInning12(String homeInning12) {
-		this.homeInning12 = homeInning12;
+		setCell(home, 11, homeInning12);
 	}
 	public String getHomeInning13() {
-		return homeInning13;
+		return getCell(home, 12);
 	}
 	public void setHomeInning13(String homeInning13) {
-		this.homeInning13 = homeInning13;
+		setCell(home, 12, homeInning13);
 	}
 	public String getHomeInning14() {
-		return homeInning14;
+		return getCell(home, 13);
 	}
 	public void setHomeInning14(String homeInning14) {
-		this.homeInning14 = homeInning14;
+		setCell(home, 13, homeInning14);
 	}
 	public String getHomeInning15() {
-		return homeInning15;
+		return getCell(home, 14);
 	}
 	public void setHomeInning15(String homeInning15) {
-		this.homeInning15 = homeInning15;
+		setCell(home, 14, homeInning15);
 	}
 	public String getHomeRuns() {
-		return homeRuns;
+		return getCell(home, RUNS);
 	}
 	public void setHomeRuns(String homeRuns) {
-		this.homeRuns = homeRuns;
+		setCell(home, RUNS, homeRuns);
 	}
 	public String getHomeHits() {
-		return homeHits;
+		return getCell(home, HITS);
 	}
 	public void setHomeHits(String homeHits) {
-		this.homeHits = homeHits;
+		setCell(home, HITS, homeHits);
 	}
 	public String getHomeErrors() {
-		return homeErrors;
+		return getCell(home, ERRORS);
 	}
 	public void setHomeErrors(String homeErrors) {
-		this.homeErrors = homeErrors;
+		setCell(home, ERRORS, homeErrors);
 	}
 	public String getHomeBalls() {
-		return homeBalls;
+		return getCell(home, BALLS);
 	}
 	public void setHomeBalls(String homeBalls) {
-		this.homeBalls = homeBalls;
+		setCell(home, BALLS, homeBalls);
 	}
 	public String getAwayPitcher() {
 		return awayPitcher;
@@ -333,36 +397,20 @@ public class ScoreBoard {
 	public String getStatus() {
 		return status;
 	}
-	public void setStatus() {
-		Date now = new Date();
-		if(this.gameDate.before(now)) {
-			this.status = "경기종료";
-		} else {
-			this.status = "경기예정";
-		}
+	// 경기종료/경기예정 은 조회 쿼리에서, 승/무/패 는 저장할 때 계산된 컬럼을 그대로 매핑
+	public void setStatus(String status) {
+		this.status = status;
 	}
 	public String getAwayWinOrLose() {
 		return awayWinOrLose;
 	}
-	public void setAwayWinOrLose() {
-		if(Integer.parseInt(this.awayRuns) > Integer.parseInt(this.homeRuns)){
-			this.awayWinOrLose = "승";
-		} else if(Integer.parseInt(this.awayRuns) < Integer.parseInt(this.homeRuns)) {
-			this.awayWinOrLose = "패";
-		} else {
-			this.awayWinOrLose = "무";
-		}
+	public void setAwayWinOrLose(String awayWinOrLose) {
+		this.awayWinOrLose = awayWinOrLose;
 	}
 	public String getHomeWinOrLose() {
 		return homeWinOrLose;
 	}
-	public void setHomeWinOrLose() {
-		if(Integer.parseInt(this.homeRuns) > Integer.parseInt(this.awayRuns)){
-			this.homeWinOrLose = "승";
-		} else if(Integer.parseInt(this.homeRuns) < Integer.parseInt(this.awayRuns)) {
-			this.homeWinOrLose = "패";
-		} else {
-			this.homeWinOrLose = "무";
-		}
+	public void setHomeWinOrLose(String homeWinOrLose) {
+		this.homeWinOrLose = homeWinOrLose;
 	}
 }
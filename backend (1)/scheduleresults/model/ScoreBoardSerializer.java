@@ -0,0 +1,78 @@
+package com.example.scheduleresults.model;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+// ScoreBoard -> JSON
+// 필드 순서와 값 형식 (점수도 문자열, 빈 칸은 null) 은 String 필드 시절 Jackson 기본 출력과 같음
+// 필드 이름은 미리 인코딩해 두고, 리플렉션 없이 배열에서 바로 씀
+public class ScoreBoardSerializer extends StdSerializer<ScoreBoard> {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final SerializableString GAME_DATE = new SerializedString("gameDate");
+	private static final SerializableString TIME = new SerializedString("time");
+	private static final SerializableString GROUND = new SerializedString("ground");
+	private static final SerializableString STATUS = new SerializedString("status");
+	private static final SerializableString AWAY_TEAM = new SerializedString("awayTeam");
+	private static final SerializableString AWAY_WIN_OR_LOSE = new SerializedString("awayWinOrLose");
+	private static final SerializableString AWAY_PITCHER = new SerializedString("awayPitcher");
+	private static final SerializableString HOME_TEAM = new SerializedString("homeTeam");
+	private static final SerializableString HOME_WIN_OR_LOSE = new SerializedString("homeWinOrLose");
+	private static final SerializableString HOME_PITCHER = new SerializedString("homePitcher");
+	private static final SerializableString[] AWAY_CELLS = cellNames("away");
+	private static final SerializableString[] HOME_CELLS = cellNames("home");
+
+	public ScoreBoardSerializer() {
+		super(ScoreBoard.class);
+	}
+
+	// awayInning1 ~ awayInning15, awayRuns, awayHits, awayErrors, awayBalls
+	private static SerializableString[] cellNames(String side) {
+		SerializableString[] names = new SerializableString[ScoreBoard.CELLS];
+		for (int i = 0; i < ScoreBoard.INNINGS; i++) {
+			names[i] = new SerializedString(side + "Inning" + (i + 1));
+		}
+		names[ScoreBoard.RUNS] = new SerializedString(side + "Runs");
+		names[ScoreBoard.HITS] = new SerializedString(side + "Hits");
+		names[ScoreBoard.ERRORS] = new SerializedString(side + "Errors");
+		names[ScoreBoard.BALLS] = new SerializedString(side + "Balls");
+		return names;
+	}
+
+	@Override
+	public void serialize(ScoreBoard value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		gen.writeStartObject(value);
+		write(gen, GAME_DATE, value.getGameDate());
+		write(gen, TIME, value.getTime());
+		write(gen, GROUND, value.getGround());
+		write(gen, STATUS, value.getStatus());
+		write(gen, AWAY_TEAM, value.getAwayTeam());
+		write(gen, AWAY_WIN_OR_LOSE, value.getAwayWinOrLose());
+		for (int i = 0; i < ScoreBoard.CELLS; i++) {
+			write(gen, AWAY_CELLS[i], value.getAwayCell(i));
+		}
+		write(gen, AWAY_PITCHER, value.getAwayPitcher());
+		write(gen, HOME_TEAM, value.getHomeTeam());
+		write(gen, HOME_WIN_OR_LOSE, value.getHomeWinOrLose());
+		for (int i = 0; i < ScoreBoard.CELLS; i++) {
+			write(gen, HOME_CELLS[i], value.getHomeCell(i));
+		}
+		write(gen, HOME_PITCHER, value.getHomePitcher());
+		gen.writeEndObject();
+	}
+
+	private static void write(JsonGenerator gen, SerializableString name, String value) throws IOException {
+		gen.writeFieldName(name);
+		if (value == null) {
+			gen.writeNull();
+		} else {
+			gen.writeString(value);
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package com.example.scheduleresults.model;
+
+// 순위표 한 줄 (StandingsService 가 메모리에서 계산)
+public class Standing {
+	private int rank;
+	private String team;
+	private int games;
+	private int wins;
+	private int losses;
+	private int draws;
+	private double winRate;
+	private double gamesBehind;
+	private String lastTen;
+	private String streak;
+
+	public Standing(int rank, String team, int games, int wins, int losses, int draws, double winRate,
+			double gamesBehind, String lastTen, String streak) {
+		this.rank = rank;
+		this.team = team;
+		this.games = games;
+		this.wins = wins;
+		this.losses = losses;
+		this.draws = draws;
+		this.winRate = winRate;
+		this.gamesBehind = gamesBehind;
+		this.lastTen = lastTen;
+		this.streak = streak;
+	}
+
+	public int getRank() {
+		return rank;
+	}
+
+	public String getTeam() {
+		return team;
+	}
+
+	public int getGames() {
+		return games;
+	}
+
+	public int getWins() {
+		return wins;
+	}
+
+	public int getLosses() {
+		return losses;
+	}
+
+	public int getDraws() {
+		return draws;
+	}
+
+	// 승률 (무승부 제외, 소수 셋째 자리)
+	public double getWinRate() {
+		return winRate;
+	}
+
+	// 1위와의 게임차
+	public double getGamesBehind() {
+		return gamesBehind;
+	}
+
+	// 최근 10경기 (예: 6승1무3패)
+	public String getLastTen() {
+		return lastTen;
+	}
+
+	// 연속 기록 (예: 3승, 2패)
+	public String getStreak() {
+		return streak;
+	}
+}
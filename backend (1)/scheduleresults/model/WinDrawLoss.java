@@ -0,0 +1,26 @@
+package com.example.scheduleresults.model;
+
+// 승/무/패 수 (상대 전적, 홈/원정, 월별 기록 한 칸)
+public class WinDrawLoss {
+	private int wins;
+	private int draws;
+	private int losses;
+
+	public WinDrawLoss(int wins, int draws, int losses) {
+		this.wins = wins;
+		this.draws = draws;
+		this.losses = losses;
+	}
+
+	public int getWins() {
+		return wins;
+	}
+
+	public int getDraws() {
+		return draws;
+	}
+
+	public int getLosses() {
+		return losses;
+	}
+}
@@ -0,0 +1,233 @@
+package com.example.scheduleresults.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.mapper.Mappers;
+import com.example.scheduleresults.model.ScheduleResults;
+import com.example.scheduleresults.model.ScoreBoard;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// 시즌 단위 내보내기 (NDJSON / CSV)
+// MyBatis 커서로 한 행씩 읽어서 바로 응답 스트림에 씀 (목록을 만들지 않으므로 기간이 길어도 메모리 일정)
+// 커서는 트랜잭션 안에서만 열려 있으므로 쓰기까지 이 메소드 안에서 끝냄
+// MySQL Connector/J 는 JDBC URL 에 useCursorFetch=true 가 있어야 fetchSize 만큼씩 읽음 (ExportController 참고)
+@Service
+public class ExportService {
+
+	public static final String NDJSON = "ndjson";
+	public static final String CSV = "csv";
+
+	// 이만큼 쓸 때마다 flush (클라이언트가 바로 받기 시작하도록)
+	private static final int FLUSH_ROWS = 500;
+
+	private static final String[] SCHEDULE_COLUMNS = { "gameDate", "time", "dayOfTheWeek", "season", "away", "home",
+			"awayScore", "homeScore", "ground", "etc", "winningPitcher", "losingPitcher", "homeWinLose", "awayWinLose",
+			"homePitcher", "awayPitcher" };
+	private static final String[] SCOREBOARD_COLUMNS = scoreboardColumns();
+
+	@Autowired
+	private Mappers mapper;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	// 일정/결과 내보내기, 쓴 행 수 반환
+	@Transactional(readOnly = true)
+	public int exportSchedule(LocalDate from, LocalDate to, String season, String format, OutputStream out) throws IOException {
+		try (Cursor<ScheduleResults> cursor = mapper.selectScheduleExport(from, to, season)) {
+			return write(cursor, format, SCHEDULE_COLUMNS, ExportService::scheduleValue, out);
+		}
+	}
+
+	// 스코어보드 내보내기, 쓴 행 수 반환
+	@Transactional(readOnly = true)
+	public int exportScoreBoard(LocalDate from, LocalDate to, String season, String format, OutputStream out) throws IOException {
+		try (Cursor<ScoreBoard> cursor = mapper.selectScoreBoardExport(from, to, season)) {
+			return write(cursor, format, SCOREBOARD_COLUMNS, ExportService::scoreBoardValue, out);
+		}
+	}
+
+	public static boolean isSupported(String format) {
+		return NDJSON.equals(format) || CSV.equals(format);
+	}
+
+	// CSV 한 칸 값
+	private interface Column<T> {
+		String value(T row, int index);
+	}
+
+	private <T> int write(Cursor<T> cursor, String format, String[] columns, Column<T> column, OutputStream out) throws IOException {
+		return NDJSON.equals(format) ? writeNdjson(cursor, out) : writeCsv(cursor, columns, column, out);
+	}
+
+	// 한 줄에 JSON 하나 (필드는 조회 API 와 같음)
+	private <T> int writeNdjson(Cursor<T> cursor, OutputStream out) throws IOException {
+		// writeValue 마다 flush 하지 않도록 (기본값이면 행마다 응답 스트림까지 flush 되어 FLUSH_ROWS 가 의미 없음)
+		ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		int rows = 0;
+		try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+			gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			for (T row : cursor) {
+				writer.writeValue(gen, row);
+				gen.writeRaw('\n');
+				if (++rows % FLUSH_ROWS == 0) {
+					gen.flush();
+				}
+			}
+		}
+		return rows;
+	}
+
+	// 첫 줄은 컬럼 이름, 엑셀에서 한글이 깨지지 않도록 BOM 을 붙임
+	private <T> int writeCsv(Cursor<T> cursor, String[] columns, Column<T> column, OutputStream out) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		writer.write('\uFEFF');
+		for (int i = 0; i < columns.length; i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			writer.write(columns[i]);
+		}
+		writer.write("\r\n");
+		int rows = 0;
+		for (T row : cursor) {
+			for (int i = 0; i < columns.length; i++) {
+				if (i > 0) {
+					writer.write(',');
+				}
+				writeCsvValue(writer, column.value(row, i));
+			}
+			writer.write("\r\n");
+			if (++rows % FLUSH_ROWS == 0) {
+				writer.flush();
+			}
+		}
+		writer.flush();
+		return rows;
+	}
+
+	// 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감쌈, null 은 빈 칸
+	private static void writeCsvValue(Writer writer, String value) throws IOException {
+		if (value == null) {
+			return;
+		}
+		boolean quote = false;
+		for (int i = 0; i < value.length() && !quote; i++) {
+			char c = value.charAt(i);
+			quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+		}
+		if (!quote) {
+			writer.write(value);
+			return;
+		}
+		writer.write('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"') {
+				writer.write('"');
+			}
+			writer.write(c);
+		}
+		writer.write('"');
+	}
+
+	private static String scheduleValue(ScheduleResults row, int index) {
+		switch (index) {
+			case 0:
+				return row.getGameDate();
+			case 1:
+				return row.getTime();
+			case 2:
+				return row.getDayOfTheWeek();
+			case 3:
+				return row.getSeason();
+			case 4:
+				return row.getAway();
+			case 5:
+				return row.getHome();
+			case 6:
+				return row.getAwayScore();
+			case 7:
+				return row.getHomeScore();
+			case 8:
+				return row.getGround();
+			case 9:
+				return row.getEtc();
+			case 10:
+				return row.getWinningPitcher();
+			case 11:
+				return row.getLosingPitcher();
+			case 12:
+				return row.getHomeWinLose();
+			case 13:
+				return row.getAwayWinLose();
+			case 14:
+				return row.getHomePitcher();
+			default:
+				return row.getAwayPitcher();
+		}
+	}
+
+	// SCOREBOARD_COLUMNS 순서 : 일시, 구장, 상태, 원정팀(승패, 칸 19개, 투수), 홈팀(승패, 칸 19개, 투수)
+	private static String scoreBoardValue(ScoreBoard row, int index) {
+		int side = 3 + ScoreBoard.CELLS;
+		switch (index) {
+			case 0:
+				return row.getGameDate();
+			case 1:
+				return row.getTime();
+			case 2:
+				return row.getGround();
+			case 3:
+				return row.getStatus();
+			default:
+				break;
+		}
+		boolean away = index < 4 + side;
+		int i = away ? index - 4 : index - 4 - side;
+		if (i == 0) {
+			return away ? row.getAwayTeam() : row.getHomeTeam();
+		} else if (i == 1) {
+			return away ? row.getAwayWinOrLose() : row.getHomeWinOrLose();
+		} else if (i < 2 + ScoreBoard.CELLS) {
+			return away ? row.getAwayCell(i - 2) : row.getHomeCell(i - 2);
+		}
+		return away ? row.getAwayPitcher() : row.getHomePitcher();
+	}
+
+	private static String[] scoreboardColumns() {
+		String[] columns = new String[4 + 2 * (3 + ScoreBoard.CELLS)];
+		int i = 0;
+		columns[i++] = "gameDate";
+		columns[i++] = "time";
+		columns[i++] = "ground";
+		columns[i++] = "status";
+		for (String side : new String[] { "away", "home" }) {
+			columns[i++] = side + "Team";
+			columns[i++] = side + "WinOrLose";
+			for (int inning = 1; inning <= ScoreBoard.INNINGS; inning++) {
+				columns[i++] = side + "Inning" + inning;
+			}
+			columns[i++] = side + "Runs";
+			columns[i++] = side + "Hits";
+			columns[i++] = side + "Errors";
+			columns[i++] = side + "Balls";
+			columns[i++] = side + "Pitcher";
+		}
+		return columns;
+	}
+}
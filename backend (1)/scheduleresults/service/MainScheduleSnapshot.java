@@ -0,0 +1,83 @@
+package com.example.scheduleresults.service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.crawling.GameSnapshot;
+import com.example.crawling.GamesIngestedEvent;
+import com.example.scheduleresults.model.ScheduleResults;
+import com.example.service.DataVersionClock;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 메인 페이지 일정 (/api/mainschedule) 오늘/내일 응답을 JSON 바이트로 미리 만들어 둠
+// 자정 (날짜가 바뀔 때) 과 경기 결과가 저장될 때 다시 만들고, 요청은 쿼리/직렬화 없이 바이트만 반환
+// 다른 날짜 요청은 그때그때 조회
+@Service
+public class MainScheduleSnapshot {
+
+	@Autowired
+	private ResultsService resultsService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	// 날짜 (yyyy-MM-dd) -> 응답 JSON (통째로 바꿔 끼움)
+	private volatile Map<String, byte[]> snapshots = Map.of();
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		rebuild();
+	}
+
+	@Scheduled(cron = "${scheduleresults.main-snapshot.cron:0 0 0 * * *}")
+	public synchronized void rebuild() {
+		LocalDate today = LocalDate.now();
+		try {
+			Map<String, byte[]> rebuilt = new HashMap<>();
+			for (LocalDate date : List.of(today, today.plusDays(1))) {
+				rebuilt.put(date.toString(), serialize(date.toString()));
+			}
+			snapshots = Map.copyOf(rebuilt);
+		} catch (Exception e) {
+			// 실패하면 이전 스냅샷 유지
+			System.out.println("메인 일정 스냅샷 생성 실패: " + e.getMessage());
+		}
+	}
+
+	// 경기 결과 (schedule) 가 저장되면 다시 만듦 (진행 중 경기의 scoreboard 저장은 제외)
+	@TransactionalEventListener(fallbackExecution = true)
+	@Order(DataVersionClock.CACHE_ORDER)
+	public void onGamesIngested(GamesIngestedEvent event) {
+		for (GameSnapshot game : event.getGames()) {
+			if (game.isComplete()) {
+				rebuild();
+				return;
+			}
+		}
+	}
+
+	// 응답 JSON ({"mainSchedule": [...], "date": ...})
+	public byte[] get(String date) throws JsonProcessingException {
+		byte[] snapshot = snapshots.get(date);
+		return snapshot != null ? snapshot : serialize(date);
+	}
+
+	private byte[] serialize(String date) throws JsonProcessingException {
+		List<ScheduleResults> mainSchedule = resultsService.getMainResults(date);
+		Map<String, Object> response = new HashMap<>();
+		response.put("mainSchedule", mainSchedule);
+		response.put("date", date);
+		return objectMapper.writeValueAsBytes(response);
+	}
+}
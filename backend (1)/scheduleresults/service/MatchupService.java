@@ -0,0 +1,239 @@
+package com.example.scheduleresults.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.example.scheduleresults.model.WinDrawLoss;
+
+// 팀 간 상대 전적 (팀 수 x 팀 수) 과 팀별 홈/원정, 월별 기록
+// 카운터는 RegularSeasonResults 가 넣어 주는 경기 (시작할 때 전체 한 번 + 저장 이벤트로 하나씩) 로 채움
+// 같은 경기가 다시 저장되면 (기록 정정) 이전 결과를 빼고 새 결과를 더함
+@Service
+public class MatchupService implements RegularSeasonAggregate {
+
+	private static final int WIN = 0;
+	private static final int DRAW = 1;
+	private static final int LOSS = 2;
+
+	// RegularSeasonResults 가 이 서비스를 집계로 주입받으므로 조회할 때 꺼내 씀
+	@Autowired
+	private ObjectProvider<RegularSeasonResults> regularSeasonResults;
+
+	// 연도 -> 시즌 카운터
+	private final Map<Integer, SeasonCounters> seasons = new HashMap<>();
+
+	@Override
+	public Rebuild rebuild() {
+		Map<Integer, SeasonCounters> rebuilt = new HashMap<>();
+		return new Rebuild() {
+			@Override
+			public void add(RegularSeasonGame game) {
+				apply(rebuilt, game);
+			}
+
+			@Override
+			public void finish() {
+				synchronized (MatchupService.this) {
+					seasons.clear();
+					seasons.putAll(rebuilt);
+				}
+			}
+		};
+	}
+
+	@Override
+	public synchronized void apply(RegularSeasonGame game) {
+		apply(seasons, game);
+	}
+
+	private static void apply(Map<Integer, SeasonCounters> seasons, RegularSeasonGame game) {
+		seasons.computeIfAbsent(game.getYear(), y -> new SeasonCounters())
+				.apply(game.getKey(), game.getMonth(), game.getAway(), game.getHome(), game.getHomeResult());
+	}
+
+	// 팀 이름 목록 (가나다 순)
+	public List<String> getTeams(int year) {
+		ensureLoaded();
+		synchronized (this) {
+			SeasonCounters season = seasons.get(year);
+			return season == null ? Collections.emptyList() : season.sortedTeams();
+		}
+	}
+
+	// 팀 -> 상대 팀 -> 승/무/패 (맞대결이 없는 상대는 0승 0무 0패)
+	public Map<String, Map<String, WinDrawLoss>> getHeadToHead(int year) {
+		ensureLoaded();
+		synchronized (this) {
+			return headToHead(year);
+		}
+	}
+
+	private Map<String, Map<String, WinDrawLoss>> headToHead(int year) {
+		SeasonCounters season = seasons.get(year);
+		Map<String, Map<String, WinDrawLoss>> matrix = new LinkedHashMap<>();
+		if (season == null) {
+			return matrix;
+		}
+		List<String> teams = season.sortedTeams();
+		for (String team : teams) {
+			int t = season.teamIndex.get(team);
+			Map<String, WinDrawLoss> row = new LinkedHashMap<>();
+			for (String opponent : teams) {
+				if (!opponent.equals(team)) {
+					row.put(opponent, toRecord(season.headToHead[t][season.teamIndex.get(opponent)]));
+				}
+			}
+			matrix.put(team, row);
+		}
+		return matrix;
+	}
+
+	// 팀 -> home / away / monthly(월 -> 승/무/패, 경기가 있던 달만)
+	// team 이 null 이면 전체 팀
+	public Map<String, Map<String, Object>> getSplits(int year, String team) {
+		ensureLoaded();
+		synchronized (this) {
+			return splits(year, team);
+		}
+	}
+
+	private Map<String, Map<String, Object>> splits(int year, String team) {
+		SeasonCounters season = seasons.get(year);
+		Map<String, Map<String, Object>> splits = new LinkedHashMap<>();
+		if (season == null) {
+			return splits;
+		}
+		for (String name : season.sortedTeams()) {
+			if (team != null && !team.equals(name)) {
+				continue;
+			}
+			int t = season.teamIndex.get(name);
+			Map<String, WinDrawLoss> monthly = new LinkedHashMap<>();
+			for (int month = 1; month <= 12; month++) {
+				int[] counts = season.monthly[t][month];
+				if (counts[WIN] + counts[DRAW] + counts[LOSS] > 0) {
+					monthly.put(Integer.toString(month), toRecord(counts));
+				}
+			}
+			Map<String, Object> split = new LinkedHashMap<>();
+			split.put("home", toRecord(season.home[t]));
+			split.put("away", toRecord(season.away[t]));
+			split.put("monthly", monthly);
+			splits.put(name, split);
+		}
+		return splits;
+	}
+
+	// 락 밖에서 (RegularSeasonResults 가 다시 계산하면서 이 서비스의 락을 잡음)
+	private void ensureLoaded() {
+		regularSeasonResults.getObject().ensureLoaded();
+	}
+
+	private static WinDrawLoss toRecord(int[] counts) {
+		return new WinDrawLoss(counts[WIN], counts[DRAW], counts[LOSS]);
+	}
+
+	// 홈팀 결과 문자열 -> WIN/DRAW/LOSS (결과가 없으면 -1)
+	private static int outcome(String homeResult) {
+		if ("승".equals(homeResult)) {
+			return WIN;
+		} else if ("무".equals(homeResult)) {
+			return DRAW;
+		} else if ("패".equals(homeResult)) {
+			return LOSS;
+		}
+		return -1;
+	}
+
+	// 한 시즌 카운터 (팀마다 번호를 붙이고 배열로 보관)
+	private static class SeasonCounters {
+		private final Map<String, Integer> teamIndex = new HashMap<>();
+		private int[][][] headToHead = new int[0][0][3];
+		private int[][] home = new int[0][3];
+		private int[][] away = new int[0][3];
+		private int[][][] monthly = new int[0][13][3];
+		// 경기 키 (일시 + 원정팀 + 홈팀) -> 반영한 결과 (정정된 경기를 되돌리기 위함)
+		private final Map<String, Applied> applied = new HashMap<>();
+
+		// key : RegularSeasonGame.getKey()
+		void apply(String key, int month, String away, String home, String homeResult) {
+			int result = outcome(homeResult);
+			if (result < 0) {
+				return;
+			}
+			Applied previous = applied.get(key);
+			if (previous != null) {
+				if (previous.result == result) {
+					return;
+				}
+				add(previous, -1);
+			}
+			Applied game = new Applied(index(away), index(home), month, result);
+			add(game, 1);
+			applied.put(key, game);
+		}
+
+		private void add(Applied game, int delta) {
+			int homeOutcome = game.result;
+			int awayOutcome = LOSS - game.result;
+			headToHead[game.home][game.away][homeOutcome] += delta;
+			headToHead[game.away][game.home][awayOutcome] += delta;
+			home[game.home][homeOutcome] += delta;
+			away[game.away][awayOutcome] += delta;
+			monthly[game.home][game.month][homeOutcome] += delta;
+			monthly[game.away][game.month][awayOutcome] += delta;
+		}
+
+		// 처음 보는 팀이면 번호를 새로 붙이고 배열을 늘림
+		private int index(String team) {
+			Integer index = teamIndex.get(team);
+			if (index != null) {
+				return index;
+			}
+			int n = teamIndex.size();
+			teamIndex.put(team, n);
+			headToHead = Arrays.copyOf(headToHead, n + 1);
+			for (int i = 0; i < n; i++) {
+				headToHead[i] = Arrays.copyOf(headToHead[i], n + 1);
+				headToHead[i][n] = new int[3];
+			}
+			headToHead[n] = new int[n + 1][3];
+			home = Arrays.copyOf(home, n + 1);
+			home[n] = new int[3];
+			away = Arrays.copyOf(away, n + 1);
+			away[n] = new int[3];
+			monthly = Arrays.copyOf(monthly, n + 1);
+			monthly[n] = new int[13][3];
+			return n;
+		}
+
+		List<String> sortedTeams() {
+			List<String> teams = new ArrayList<>(teamIndex.keySet());
+			Collections.sort(teams);
+			return teams;
+		}
+	}
+
+	private static class Applied {
+		private final int away;
+		private final int home;
+		private final int month;
+		private final int result;
+
+		Applied(int away, int home, int month, int result) {
+			this.away = away;
+			this.home = home;
+			this.month = month;
+			this.result = result;
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.example.scheduleresults.service;
+
+// 정규시즌 경기 결과로 만드는 메모리 집계 (순위표, 상대 전적)
+// RegularSeasonResults 가 schedule 을 한 번 훑은 결과와 저장 이벤트를 모든 집계에 똑같이 나눠 줌
+interface RegularSeasonAggregate {
+
+	// 전체 다시 계산 : 돌려준 Rebuild 에 경기를 모두 넣고 finish() 에서 기존 상태와 한 번에 교체
+	Rebuild rebuild();
+
+	// 저장된 경기 하나 반영
+	void apply(RegularSeasonGame game);
+
+	interface Rebuild {
+		void add(RegularSeasonGame game);
+
+		void finish();
+	}
+}
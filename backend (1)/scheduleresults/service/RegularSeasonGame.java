@@ -0,0 +1,67 @@
+package com.example.scheduleresults.service;
+
+import java.time.format.DateTimeFormatter;
+
+import com.example.crawling.GameSnapshot;
+import com.example.scheduleresults.model.ScheduleResults;
+
+// 집계에 넣는 정규시즌 경기 결과 하나 (schedule 행이든 방금 저장한 스냅샷이든 같은 모양)
+final class RegularSeasonGame {
+
+	private static final DateTimeFormatter KEY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+	private final int year;
+	private final int month;
+	private final String key;
+	private final String away;
+	private final String home;
+	private final String homeResult;
+
+	private RegularSeasonGame(int year, int month, String dateTime, String away, String home, String homeResult) {
+		this.year = year;
+		this.month = month;
+		this.key = dateTime + "|" + away + "|" + home;
+		this.away = away;
+		this.home = home;
+		this.homeResult = homeResult;
+	}
+
+	// selectRegularSeasonFinals 한 행
+	static RegularSeasonGame of(ScheduleResults row) {
+		String date = row.getGameDate();
+		return new RegularSeasonGame(Integer.parseInt(date.substring(0, 4)), Integer.parseInt(date.substring(5, 7)),
+				date + " " + row.getTime(), row.getAway(), row.getHome(), row.getHomeWinLose());
+	}
+
+	// 저장 이벤트로 들어온 끝난 경기
+	static RegularSeasonGame of(GameSnapshot game) {
+		return new RegularSeasonGame(game.getDate().getYear(), game.getDate().getMonthValue(),
+				KEY_FORMAT.format(game.getGameDateTime()), game.getAwayTeam(), game.getHomeTeam(), game.getHomeResult());
+	}
+
+	int getYear() {
+		return year;
+	}
+
+	int getMonth() {
+		return month;
+	}
+
+	// 경기 키 : 일시 + 원정팀 + 홈팀 (일시가 앞이라 문자열 순서 = 경기 순서, 같은 경기가 다시 들어오면 이전 결과를 대신함)
+	String getKey() {
+		return key;
+	}
+
+	String getAway() {
+		return away;
+	}
+
+	String getHome() {
+		return home;
+	}
+
+	// 승, 패, 무 (그 외 값이면 집계에서 건너뜀)
+	String getHomeResult() {
+		return homeResult;
+	}
+}
@@ -0,0 +1,89 @@
+package com.example.scheduleresults.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.crawling.GameSnapshot;
+import com.example.crawling.GamesIngestedEvent;
+import com.example.mapper.Mappers;
+import com.example.service.DataVersionClock;
+
+// 정규시즌 결과를 집계들 (StandingsService, MatchupService) 에 나눠 주는 곳
+// 시작할 때 schedule 을 한 번만 훑어서 모든 집계를 채우고, 이후에는 저장 이벤트 하나를 받아 모든 집계에 경기 하나씩 반영
+// 어떤 경기를 정규시즌으로 볼지 (시즌 구분, 끝난 경기) 도 여기서만 판단
+@Service
+public class RegularSeasonResults {
+
+	// 순위표/상대 전적에 넣는 시즌 구분 (schedule.season, GamesIngestedEvent 의 시즌)
+	static final String REGULAR = "정규";
+
+	@Autowired
+	private Mappers mapper;
+
+	@Autowired
+	private List<RegularSeasonAggregate> aggregates;
+
+	private volatile boolean loaded = false;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		rebuild();
+	}
+
+	// schedule 을 한 번 훑어서 모든 집계를 다시 계산
+	public synchronized void rebuild() {
+		List<RegularSeasonAggregate.Rebuild> rebuilds = new ArrayList<>();
+		for (RegularSeasonAggregate aggregate : aggregates) {
+			rebuilds.add(aggregate.rebuild());
+		}
+		mapper.selectRegularSeasonFinals(REGULAR, context -> {
+			RegularSeasonGame game = RegularSeasonGame.of(context.getResultObject());
+			for (RegularSeasonAggregate.Rebuild rebuild : rebuilds) {
+				rebuild.add(game);
+			}
+		});
+		for (RegularSeasonAggregate.Rebuild rebuild : rebuilds) {
+			rebuild.finish();
+		}
+		loaded = true;
+	}
+
+	// 시작 이벤트보다 조회가 먼저 오면 그때 계산
+	// (집계 쪽 락을 잡기 전에 불러야 함, 여기서 집계 락을 잡기 때문)
+	public void ensureLoaded() {
+		if (!loaded) {
+			synchronized (this) {
+				if (!loaded) {
+					rebuild();
+				}
+			}
+		}
+	}
+
+	// 경기 저장이 커밋되면 끝난 정규시즌 경기만 반영
+	// 이벤트의 시즌은 저장할 때 쓴 값 (crawling.season, 기본 정규 / 백필은 작업마다 지정) 이라 schedule.season 과 같음
+	@TransactionalEventListener(fallbackExecution = true)
+	@Order(DataVersionClock.CACHE_ORDER)
+	public synchronized void onGamesIngested(GamesIngestedEvent event) {
+		if (!loaded || !REGULAR.equals(event.getSeason())) {
+			return;
+		}
+		for (GameSnapshot game : event.getGames()) {
+			if (!game.isComplete()) {
+				// 진행 중인 경기 (라이브 폴링)
+				continue;
+			}
+			RegularSeasonGame result = RegularSeasonGame.of(game);
+			for (RegularSeasonAggregate aggregate : aggregates) {
+				aggregate.apply(result);
+			}
+		}
+	}
+}
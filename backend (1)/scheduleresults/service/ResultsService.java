@@ -1,14 +1,27 @@
 package com.example.scheduleresults.service;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.example.crawling.GamesIngestedEvent;
 import com.example.mapper.Mappers;
 import com.example.scheduleresults.model.ScheduleResults;
 import com.example.scheduleresults.model.ScoreBoard;
+import com.example.service.DataVersionClock;
 
 @Service
 public class ResultsService {
@@ -16,70 +29,140 @@ public class ResultsService {
 	@Autowired
 	private Mappers mapper;
 	
-	public List<ScheduleResults> getAllResults(int year, int month) {
-		List<ScheduleResults> results;
-		results = mapper.selectAllResults(year, month);
-		for(int i=0; i<results.size(); i++) {
-			results.get(i).setHomeWinLose();
-			results.get(i).setAwayWinLose();
-			results.get(i).setHomePitcher();
-			results.get(i).setAwayPitcher();
+	// 스코어보드가 있는 날짜 (이전/다음 경기일 찾기용, 처음 조회할 때 한 번 읽고 이후에는 저장 이벤트로 추가)
+	private final NavigableSet<LocalDate> gameDays = new ConcurrentSkipListSet<>();
+	private volatile boolean gameDaysLoaded = false;
+	// 저장 이벤트 횟수 (처음 읽는 중에 저장됐으면 읽은 결과를 쓰지 않고 다음 조회 때 다시 읽음)
+	private long gameDaysVersion = 0;
+	
+	// 월별 일정/결과 캐시 (키 : 시즌|연도|월, 오래 안 쓴 달부터 MONTH_CACHE_SIZE 개까지만 보관)
+	// 지난 달은 바뀌지 않으므로 시간 만료 없이 보관하고, 경기가 저장되면 그 경기가 속한 달만 비움
+	private static final int MONTH_CACHE_SIZE = 48;
+	private final Map<String, List<ScheduleResults>> monthCache = new LinkedHashMap<String, List<ScheduleResults>>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, List<ScheduleResults>> eldest) {
+			return size() > MONTH_CACHE_SIZE;
 		}
-		
-		return results;
+	};
+	// 비운 횟수 (조회 중에 비워졌으면 조회 결과를 캐시에 넣지 않음)
+	private long monthCacheVersion = 0;
+	
+	public List<ScheduleResults> getAllResults(int year, int month) {
+		// 승/무/패, 홈/원정 투수는 저장할 때 계산된 컬럼이라 그대로 반환
+		return getMonth("정규", year, month, () -> mapper.selectAllResults(year, month));
 	}
 	
 	public List<ScheduleResults> getPostResults(int year, int month) {
-		List<ScheduleResults> results;
-		results = mapper.selectPostResults(year, month);
-		for(int i=0; i<results.size(); i++) {
-			results.get(i).setHomeWinLose();
-			results.get(i).setAwayWinLose();
-			results.get(i).setHomePitcher();
-			results.get(i).setAwayPitcher();
-			
+		return getMonth("포스트", year, month, () -> mapper.selectPostResults(year, month));
+	}
+	
+	private List<ScheduleResults> getMonth(String season, int year, int month, Supplier<List<ScheduleResults>> loader) {
+		String key = monthKey(season, year, month);
+		long version;
+		synchronized (monthCache) {
+			List<ScheduleResults> cached = monthCache.get(key);
+			if (cached != null) {
+				return cached;
+			}
+			version = monthCacheVersion;
+		}
+		List<ScheduleResults> results = Collections.unmodifiableList(loader.get());
+		synchronized (monthCache) {
+			if (version == monthCacheVersion) {
+				monthCache.put(key, results);
+			}
 		}
 		return results;
 	}
+	
+	private static String monthKey(String season, int year, int month) {
+		return season + "|" + year + "|" + month;
+	}
 
 	public List<ScoreBoard> getSelectAllScoreBoard(String date) {
-			List<ScoreBoard> results;
-			results = mapper.selectAllScoreBoard(date); 
-			for(int i=0; i<results.size(); i++) {
-				results.get(i).setStatus();
-				results.get(i).setAwayWinOrLose();
-				results.get(i).setHomeWinOrLose();
-			}
-			return results;
+			// 경기종료/경기예정 은 쿼리에서, 승/무/패 는 저장된 컬럼에서 바로 매핑
+			return mapper.selectAllScoreBoard(date);
 	}
 	
 	public List<ScoreBoard> getSelectPrevScoreBoard(String date) {
-			return mapper.selectPrevScoreBoard(date);
+			LocalDate day = parseDate(date);
+			LocalDate prev = day == null ? null : getGameDays().lower(day);
+			return prev == null ? new ArrayList<>() : mapper.selectAllScoreBoard(prev.toString());
 	}
 	
 	public List<ScoreBoard> getSelectNextScoreBoard(String date) {
-			return mapper.selectNextScoreBoard(date);
+			LocalDate day = parseDate(date);
+			LocalDate next = day == null ? null : getGameDays().higher(day);
+			return next == null ? new ArrayList<>() : mapper.selectAllScoreBoard(next.toString());
 	}
-
 	
-	public List<ScheduleResults> getMainResults(String date) {
-		List<ScheduleResults> results;
-		results = mapper.selectMainSchedule(date);
-		for(int i=0; i<results.size(); i++) {
-			results.get(i).setHomeWinLose();
-			results.get(i).setAwayWinLose();
-			results.get(i).setHomePitcher();
-			results.get(i).setAwayPitcher();
-			if(results.get(i).getEtc().equals("-")) {
-				LocalDate datethis = LocalDate.parse(results.get(i).getGameDate().substring(0,10));
-				if(datethis.isBefore(LocalDate.now())) {
-					results.get(i).setEtc("경기종료");
-				} else {
-					results.get(i).setEtc("경기예정");
-				}
+	// 요청 날짜 (없거나 yyyy-MM-dd 가 아니면 null, 빈 목록 반환)
+	private static LocalDate parseDate(String date) {
+		if (date == null) {
+			return null;
+		}
+		try {
+			return LocalDate.parse(date);
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+	
+	// 스코어보드가 있는 날짜 전체 (달력 표시용)
+	public List<String> getGameDayList() {
+		List<String> days = new ArrayList<>();
+		for (LocalDate day : getGameDays()) {
+			days.add(day.toString());
+		}
+		return days;
+	}
+	
+	// 경기 저장이 커밋되면 날짜 추가, 해당 달 캐시 비움
+	@TransactionalEventListener(fallbackExecution = true)
+	@Order(DataVersionClock.CACHE_ORDER)
+	public void onGamesIngested(GamesIngestedEvent event) {
+		synchronized (gameDays) {
+			if (gameDaysLoaded) {
+				gameDays.addAll(event.getDates());
 			}
+			gameDaysVersion++;
 		}
-		
-		return results;
+		synchronized (monthCache) {
+			for (LocalDate day : event.getDates()) {
+				monthCache.remove(monthKey(event.getSeason(), day.getYear(), day.getMonthValue()));
+			}
+			monthCacheVersion++;
+		}
+	}
+	
+	private NavigableSet<LocalDate> getGameDays() {
+		if (gameDaysLoaded) {
+			return gameDays;
+		}
+		long version;
+		synchronized (gameDays) {
+			if (gameDaysLoaded) {
+				return gameDays;
+			}
+			version = gameDaysVersion;
+		}
+		NavigableSet<LocalDate> days = new TreeSet<>();
+		for (String day : mapper.selectScoreBoardGameDays()) {
+			days.add(LocalDate.parse(day));
+		}
+		synchronized (gameDays) {
+			if (!gameDaysLoaded && version == gameDaysVersion) {
+				gameDays.addAll(days);
+				gameDaysLoaded = true;
+			}
+			// 읽는 중에 저장된 날짜는 빠져 있을 수 있으므로 이번 조회에만 사용
+			return gameDaysLoaded ? gameDays : days;
+		}
+	}
+
+	
+	public List<ScheduleResults> getMainResults(String date) {
+		// 비고가 "-" 인 경기의 경기종료/경기예정 도 쿼리에서 계산
+		return mapper.selectMainSchedule(date);
 	}
 }
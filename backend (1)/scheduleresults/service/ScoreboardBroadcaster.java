@@ -0,0 +1,326 @@
+package com.example.scheduleresults.service;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.crawling.GameSnapshot;
+import com.example.crawling.ScoreboardChangedEvent;
+import com.example.crawling.ScoreboardDiff;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+// 라이브 스코어 푸시 (SSE)
+// 크롤러가 scoreboard 칸을 바꾸면 (ScoreboardChangedEvent) 바뀐 칸만 JSON 으로 한 번 만들어서 모든 구독자에게 전송
+// 구독자가 몇 명이든 DB 조회 없음, 직렬화도 변경 한 건당 한 번
+// 구독자마다 크기가 정해진 대기열을 두고 따로 전송 (느린 연결 하나가 크롤러나 다른 구독자를 막지 않도록)
+// 전송은 크기가 정해진 공용 스레드 풀 (sender-threads 개, 대기 작업 sender-queue-size 개) 에서, 풀이 꽉 차면 그 구독자를 뺌
+// 대기열이 넘치거나, 전송이 실패하거나, 한 번 전송이 send-timeout-ms 를 넘기면 그 구독자는 빼고 연결을 닫음
+// 처음 화면은 /api/scoreboard 로 받고, 이후 변경분만 이 스트림으로 받는 방식
+@Service
+public class ScoreboardBroadcaster {
+
+	// 구독자 하나 (SSE 연결, 테스트에서는 아무 구현이나 addSubscriber 로 등록)
+	public interface Subscriber {
+		void send(String event, String data) throws IOException;
+
+		// 느리거나 끊긴 구독자를 뺄 때 호출 (SSE 는 emitter 종료)
+		default void close() {
+		}
+	}
+
+	private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+	private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	// SSE 연결 유지 시간 (끝나면 브라우저 EventSource 가 알아서 다시 연결)
+	@Value("${scoreboard.stream.timeout-ms:1800000}")
+	private long timeoutMs;
+
+	// 구독자 하나가 밀려 있을 수 있는 이벤트 수 (넘치면 느린 구독자로 보고 뺌)
+	@Value("${scoreboard.stream.queue-size:64}")
+	private int queueSize;
+
+	// 이벤트 하나 전송이 이보다 오래 걸리면 멈춘 연결로 보고 뺌 (heartbeat 때 검사)
+	@Value("${scoreboard.stream.send-timeout-ms:10000}")
+	private long sendTimeoutMs;
+
+	// 전송 스레드 수 (멈춘 연결 하나가 전송이 풀릴 때까지 하나씩 잡음)
+	@Value("${scoreboard.stream.sender-threads:4}")
+	private int senderThreads;
+
+	// 스레드를 기다리는 전송 작업 수 (구독자당 최대 하나, 넘치면 새로 전송할 구독자를 뺌)
+	@Value("${scoreboard.stream.sender-queue-size:256}")
+	private int senderQueueSize;
+
+	private final List<Connection> connections = new CopyOnWriteArrayList<>();
+	// scoreboard 컬럼 -> JSON 필드 이름 (away_inning3 -> awayInning3)
+	private final Map<String, String> propertyNames = new ConcurrentHashMap<>();
+	// 보낼 이벤트가 있는 구독자만 스레드를 잡음 (설정값이 주입된 뒤 처음 전송할 때 만듦)
+	private volatile ThreadPoolExecutor sender;
+
+	// SSE 구독 (연결이 끝나거나 전송에 실패하면 자동으로 빠짐)
+	public SseEmitter subscribe() {
+		SseEmitter emitter = new SseEmitter(timeoutMs);
+		Subscriber subscriber = new Subscriber() {
+			@Override
+			public void send(String event, String data) throws IOException {
+				emitter.send(SseEmitter.event().name(event).data(data));
+			}
+
+			@Override
+			public void close() {
+				emitter.complete();
+			}
+		};
+		emitter.onCompletion(() -> removeSubscriber(subscriber));
+		emitter.onTimeout(() -> removeSubscriber(subscriber));
+		emitter.onError(e -> removeSubscriber(subscriber));
+		addSubscriber(subscriber);
+		return emitter;
+	}
+
+	public void addSubscriber(Subscriber subscriber) {
+		connections.add(new Connection(subscriber, queueSize));
+	}
+
+	public void removeSubscriber(Subscriber subscriber) {
+		for (Connection connection : connections) {
+			if (connection.subscriber == subscriber) {
+				connection.closed = true;
+				connections.remove(connection);
+			}
+		}
+	}
+
+	public int getSubscriberCount() {
+		return connections.size();
+	}
+
+	// 크롤러 저장이 커밋되면 전송
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onScoreboardChanged(ScoreboardChangedEvent event) {
+		publish(event.getDiff());
+	}
+
+	// 바뀐 칸을 모든 구독자에게 (이벤트 없이 직접 넣어도 됨)
+	public void publish(ScoreboardDiff diff) {
+		if (connections.isEmpty() || diff.isEmpty()) {
+			return;
+		}
+		String json = toJson(diff);
+		if (json != null) {
+			fanOut("score", json);
+		}
+	}
+
+	// 프록시가 놀고 있는 연결을 끊지 않도록 주기적으로 빈 이벤트 전송
+	// 이벤트 하나를 send-timeout-ms 넘게 붙잡고 있는 연결은 여기서 정리
+	@Scheduled(fixedDelayString = "${scoreboard.stream.heartbeat-ms:30000}")
+	public void heartbeat() {
+		long now = System.nanoTime();
+		long limit = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+		for (Connection connection : connections) {
+			long since = connection.sendingSince;
+			if (since != 0 && now - since > limit) {
+				drop(connection, "전송 시간 초과");
+			}
+		}
+		fanOut("ping", "{}");
+	}
+
+	// 구독자별 대기열에 넣기만 함 (호출한 스레드는 전송을 기다리지 않음)
+	private void fanOut(String event, String data) {
+		for (Connection connection : connections) {
+			connection.offer(event, data);
+		}
+	}
+
+	// 구독자를 빼고 연결을 닫음
+	// 전송 중이면 close 가 진행 중인 send 뒤에서 막히므로, 닫는 건 send 가 끝난 뒤 그 전송 스레드가 함
+	private void drop(Connection connection, String reason) {
+		if (connection.closed) {
+			return;
+		}
+		connection.closed = true;
+		connections.remove(connection);
+		connection.queue.clear();
+		System.out.println("스코어보드 구독자 제외 (" + reason + "), 남은 구독자: " + connections.size());
+		connection.closeIfIdle();
+	}
+
+	private ThreadPoolExecutor sender() {
+		ThreadPoolExecutor executor = sender;
+		if (executor == null) {
+			synchronized (this) {
+				executor = sender;
+				if (executor == null) {
+					int threads = Math.max(1, senderThreads);
+					executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+							new ArrayBlockingQueue<>(Math.max(1, senderQueueSize)), r -> {
+								Thread t = new Thread(r, "scoreboard-broadcast");
+								t.setDaemon(true);
+								return t;
+							});
+					executor.allowCoreThreadTimeOut(true);
+					sender = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
+	// 구독자 하나의 전송 대기열
+	// 이벤트가 들어오면 (이미 돌고 있지 않을 때만) sender 에 전송 작업을 하나 올리고, 작업은 대기열이 빌 때까지 순서대로 전송
+	// scheduled 를 잡은 쪽 (전송 작업 또는 drop) 만 구독자를 닫음, 닫은 뒤에는 풀지 않음
+	private final class Connection implements Runnable {
+		final Subscriber subscriber;
+		final ArrayBlockingQueue<String[]> queue;
+		final AtomicBoolean scheduled = new AtomicBoolean();
+		// 진행 중인 send 시작 시각 (System.nanoTime, 0 이면 전송 중 아님)
+		volatile long sendingSince;
+		volatile boolean closed;
+
+		Connection(Subscriber subscriber, int capacity) {
+			this.subscriber = subscriber;
+			this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+		}
+
+		void offer(String event, String data) {
+			if (closed) {
+				return;
+			}
+			if (!queue.offer(new String[] { event, data })) {
+				drop(this, "대기열 초과");
+				return;
+			}
+			schedule();
+		}
+
+		private void schedule() {
+			if (scheduled.compareAndSet(false, true)) {
+				try {
+					sender().execute(this);
+				} catch (RejectedExecutionException e) {
+					// 전송 스레드와 대기 작업이 모두 참 (멈춘 연결이 많음) 또는 종료 중
+					scheduled.set(false);
+					drop(this, "전송 스레드 부족");
+				}
+			}
+		}
+
+		// 전송 작업이 돌고 있지 않으면 바로 닫음 (돌고 있으면 그 작업이 끝날 때 닫음)
+		void closeIfIdle() {
+			if (scheduled.compareAndSet(false, true)) {
+				closeSubscriber();
+			}
+		}
+
+		private void closeSubscriber() {
+			try {
+				subscriber.close();
+			} catch (Exception ignored) {
+				// 이미 끊긴 연결
+			}
+		}
+
+		@Override
+		public void run() {
+			try {
+				String[] message;
+				while (!closed && (message = queue.poll()) != null) {
+					sendingSince = System.nanoTime();
+					subscriber.send(message[0], message[1]);
+					sendingSince = 0;
+				}
+			} catch (Exception e) {
+				// 끊긴 연결
+				sendingSince = 0;
+				drop(this, "전송 실패");
+			}
+			if (closed) {
+				// 전송 중에 빠진 구독자 (scheduled 는 잡은 채로 둠)
+				closeSubscriber();
+				return;
+			}
+			scheduled.set(false);
+			// 마지막 poll 과 scheduled 해제 사이에 빠졌거나 들어온 이벤트
+			if (closed) {
+				closeIfIdle();
+			} else if (!queue.isEmpty()) {
+				schedule();
+			}
+		}
+	}
+
+	// {"gameDate":"2024-09-11","time":"18:30","awayTeam":"LG","homeTeam":"KT","changes":{"awayInning3":"2","awayRuns":"5"}}
+	// 필드 이름과 값 형식은 /api/scoreboard 의 ScoreBoard JSON 과 같음
+	String toJson(ScoreboardDiff diff) {
+		GameSnapshot game = diff.getGame();
+		Map<String, String> changes = new LinkedHashMap<>();
+		List<String> columns = diff.getColumns();
+		for (int i = 0; i < columns.size(); i++) {
+			changes.put(propertyName(columns.get(i)), diff.getValueText(i));
+		}
+		Map<String, Object> payload = new LinkedHashMap<>();
+		payload.put("gameDate", DATE_FORMAT.format(game.getGameDateTime()));
+		payload.put("time", TIME_FORMAT.format(game.getGameDateTime()));
+		payload.put("awayTeam", game.getAwayTeam());
+		payload.put("homeTeam", game.getHomeTeam());
+		payload.put("changes", changes);
+		try {
+			return objectMapper.writeValueAsString(payload);
+		} catch (JsonProcessingException e) {
+			System.out.println("스코어보드 변경 직렬화 실패: " + e.getMessage());
+			return null;
+		}
+	}
+
+	private String propertyName(String column) {
+		return propertyNames.computeIfAbsent(column, c -> {
+			// 조회 결과(ScoreBoard)에서는 status 로 나감
+			if (c.equals("game_status")) {
+				return "status";
+			}
+			StringBuilder sb = new StringBuilder();
+			boolean upper = false;
+			for (char ch : c.toCharArray()) {
+				if (ch == '_') {
+					upper = true;
+				} else {
+					sb.append(upper ? Character.toUpperCase(ch) : ch);
+					upper = false;
+				}
+			}
+			return sb.toString();
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		ThreadPoolExecutor executor = sender;
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+	}
+}
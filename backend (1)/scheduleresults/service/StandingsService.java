@@ -0,0 +1,197 @@
+package com.example.scheduleresults.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.example.scheduleresults.model.Standing;
+
+// 정규시즌 순위표
+// 팀별 경기 결과를 메모리에 올려 두고 계산 (경기는 RegularSeasonResults 가 전체 한 번 + 저장 이벤트로 하나씩 넣어 줌)
+// 조회는 메모리에서만 (연도별 순위표는 결과가 바뀐 연도만 다시 정렬)
+@Service
+public class StandingsService implements RegularSeasonAggregate {
+
+	// RegularSeasonResults 가 이 서비스를 집계로 주입받으므로 조회할 때 꺼내 씀
+	@Autowired
+	private ObjectProvider<RegularSeasonResults> regularSeasonResults;
+
+	// 연도 -> 팀 -> 팀 기록
+	private final Map<Integer, Map<String, TeamRecord>> seasons = new HashMap<>();
+	// 연도 -> 정렬된 순위표 (결과가 바뀌면 그 연도만 비움)
+	private final Map<Integer, List<Standing>> tables = new HashMap<>();
+
+	@Override
+	public Rebuild rebuild() {
+		Map<Integer, Map<String, TeamRecord>> rebuilt = new HashMap<>();
+		return new Rebuild() {
+			@Override
+			public void add(RegularSeasonGame game) {
+				apply(rebuilt, game);
+			}
+
+			@Override
+			public void finish() {
+				synchronized (StandingsService.this) {
+					seasons.clear();
+					seasons.putAll(rebuilt);
+					tables.clear();
+				}
+			}
+		};
+	}
+
+	@Override
+	public synchronized void apply(RegularSeasonGame game) {
+		if (apply(seasons, game)) {
+			tables.remove(game.getYear());
+		}
+	}
+
+	public List<Standing> getStandings(int year) {
+		ensureLoaded();
+		synchronized (this) {
+			return tables.computeIfAbsent(year, this::compute);
+		}
+	}
+
+	// 기록이 있는 가장 최근 연도 (없으면 null)
+	public Integer getLatestYear() {
+		ensureLoaded();
+		synchronized (this) {
+			return seasons.isEmpty() ? null : Collections.max(seasons.keySet());
+		}
+	}
+
+	// 락 밖에서 (RegularSeasonResults 가 다시 계산하면서 이 서비스의 락을 잡음)
+	private void ensureLoaded() {
+		regularSeasonResults.getObject().ensureLoaded();
+	}
+
+	// 홈팀 결과 하나 반영 (같은 경기가 다시 들어오면 이전 결과를 대신함, 결과가 없는 경기면 false)
+	private static boolean apply(Map<Integer, Map<String, TeamRecord>> seasons, RegularSeasonGame game) {
+		String awayResult = opposite(game.getHomeResult());
+		if (awayResult == null) {
+			return false;
+		}
+		Map<String, TeamRecord> teams = seasons.computeIfAbsent(game.getYear(), y -> new HashMap<>());
+		teams.computeIfAbsent(game.getHome(), TeamRecord::new).put(game.getKey(), game.getHomeResult());
+		teams.computeIfAbsent(game.getAway(), TeamRecord::new).put(game.getKey(), awayResult);
+		return true;
+	}
+
+	private static String opposite(String result) {
+		if ("승".equals(result)) {
+			return "패";
+		} else if ("패".equals(result)) {
+			return "승";
+		} else if ("무".equals(result)) {
+			return "무";
+		}
+		return null;
+	}
+
+	private List<Standing> compute(int year) {
+		Map<String, TeamRecord> teams = seasons.get(year);
+		if (teams == null) {
+			return Collections.emptyList();
+		}
+		List<TeamRecord> records = new ArrayList<>(teams.values());
+		records.sort(Comparator.comparingDouble(TeamRecord::winRate).reversed()
+				.thenComparing(Comparator.comparingInt((TeamRecord r) -> r.wins).reversed())
+				.thenComparing(r -> r.team));
+
+		List<Standing> standings = new ArrayList<>();
+		TeamRecord leader = records.isEmpty() ? null : records.get(0);
+		int rank = 0;
+		for (int i = 0; i < records.size(); i++) {
+			TeamRecord r = records.get(i);
+			// 승률이 같으면 같은 순위
+			if (i == 0 || r.winRate() != records.get(i - 1).winRate()) {
+				rank = i + 1;
+			}
+			double gamesBehind = ((leader.wins - r.wins) + (r.losses - leader.losses)) / 2.0;
+			standings.add(new Standing(rank, r.team, r.results.size(), r.wins, r.losses, r.draws,
+					Math.round(r.winRate() * 1000) / 1000.0, gamesBehind, r.lastTen(), r.streak()));
+		}
+		return Collections.unmodifiableList(standings);
+	}
+
+	// 팀 하나의 시즌 기록 (경기 키 순서로 결과 보관, 승/패/무 수는 넣을 때마다 갱신)
+	private static class TeamRecord {
+		private final String team;
+		private final NavigableMap<String, String> results = new TreeMap<>();
+		private int wins;
+		private int losses;
+		private int draws;
+
+		TeamRecord(String team) {
+			this.team = team;
+		}
+
+		void put(String key, String result) {
+			String previous = results.put(key, result);
+			if (previous != null) {
+				count(previous, -1);
+			}
+			count(result, 1);
+		}
+
+		private void count(String result, int delta) {
+			if ("승".equals(result)) {
+				wins += delta;
+			} else if ("패".equals(result)) {
+				losses += delta;
+			} else {
+				draws += delta;
+			}
+		}
+
+		// 무승부 제외
+		double winRate() {
+			return wins + losses == 0 ? 0 : (double) wins / (wins + losses);
+		}
+
+		String lastTen() {
+			int w = 0;
+			int l = 0;
+			int d = 0;
+			int n = 0;
+			for (String result : results.descendingMap().values()) {
+				if (n++ == 10) {
+					break;
+				}
+				if ("승".equals(result)) {
+					w++;
+				} else if ("패".equals(result)) {
+					l++;
+				} else {
+					d++;
+				}
+			}
+			return w + "승" + d + "무" + l + "패";
+		}
+
+		String streak() {
+			String last = null;
+			int n = 0;
+			for (String result : results.descendingMap().values()) {
+				if (last != null && !last.equals(result)) {
+					break;
+				}
+				last = result;
+				n++;
+			}
+			return last == null ? "" : n + last;
+		}
+	}
+}
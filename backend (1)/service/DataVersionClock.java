@@ -0,0 +1,139 @@
+package com.example.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.WebRequest;
+
+import com.example.crawling.GamesIngestedEvent;
+import com.example.crawling.RecordsIngestedEvent;
+import com.example.crawling.ScoreboardChangedEvent;
+
+// 데이터 영역별 버전 (일정/결과, 시즌 기록, 커뮤니티)
+// 저장/수정이 있을 때마다 버전을 올리고, 조회 API 는 버전으로 만든 ETag/Last-Modified 로
+// 쿼리 전에 304 응답 여부를 판단 (WebRequest.checkNotModified)
+// 서버가 다시 뜨면 시작 시각이 ETag 에 들어가므로 이전 ETag 는 전부 무효
+// 엔드포인트별 304(hit)/200(miss) 횟수 기록
+@Service
+public class DataVersionClock {
+
+	public static final String SCHEDULE = "schedule";
+	public static final String RECORDS = "records";
+	public static final String COMMUNITY = "community";
+
+	// 저장 이벤트 리스너 순서 : 캐시/스냅샷을 먼저 비우거나 다시 만들고 (CACHE_ORDER) 버전은 마지막에 올림 (VERSION_ORDER)
+	// 버전을 먼저 올리면 그 사이 요청이 새 ETag 와 비우기 전의 옛 내용을 같이 받아 가서 다음 변경 때까지 304 가 됨
+	public static final int CACHE_ORDER = 0;
+	public static final int VERSION_ORDER = Ordered.LOWEST_PRECEDENCE;
+
+	private final String epoch = Long.toHexString(System.currentTimeMillis());
+	private final Map<String, Version> versions = new ConcurrentHashMap<>();
+	// 엔드포인트 -> { hit, miss }
+	private final Map<String, LongAdder[]> counters = new ConcurrentHashMap<>();
+
+	public void bump(String domain) {
+		versions.compute(domain, (d, v) -> new Version(d, epoch, v == null ? 1 : v.number + 1));
+	}
+
+	public String getETag(String domain) {
+		return version(domain).etag;
+	}
+
+	public long getLastModified(String domain) {
+		return version(domain).lastModified;
+	}
+
+	// 클라이언트가 가진 버전이 최신이면 304 로 표시하고 true (이때 컨트롤러는 null 반환)
+	public boolean checkNotModified(String domain, String endpoint, WebRequest request) {
+		Version v = version(domain);
+		boolean notModified = request.checkNotModified(v.etag, v.lastModified);
+		record(endpoint, notModified);
+		return notModified;
+	}
+
+	// 날짜처럼 버전 외에 응답을 바꾸는 값이 있으면 ETag 에 덧붙임 (Last-Modified 는 쓰지 않음)
+	public boolean checkNotModified(String domain, String salt, String endpoint, WebRequest request) {
+		Version v = version(domain);
+		boolean notModified = request.checkNotModified(v.etag.substring(0, v.etag.length() - 1) + "-" + salt + "\"");
+		record(endpoint, notModified);
+		return notModified;
+	}
+
+	// 버전 검사 없이 응답을 캐시에서 바로 판단한 경우 (ResponseCache)
+	public void record(String endpoint, boolean hit) {
+		counters.computeIfAbsent(endpoint, e -> new LongAdder[] { new LongAdder(), new LongAdder() })[hit ? 0 : 1].increment();
+	}
+
+	// 엔드포인트별 hit/miss/적중률, 영역별 버전
+	public Map<String, Object> snapshot() {
+		Map<String, Object> endpoints = new TreeMap<>();
+		counters.forEach((endpoint, c) -> {
+			long hits = c[0].sum();
+			long misses = c[1].sum();
+			Map<String, Object> row = new LinkedHashMap<>();
+			row.put("hits", hits);
+			row.put("misses", misses);
+			row.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+			endpoints.put(endpoint, row);
+		});
+		Map<String, Object> domains = new TreeMap<>();
+		for (String domain : new String[] { SCHEDULE, RECORDS, COMMUNITY }) {
+			domains.put(domain, version(domain).number);
+		}
+		Map<String, Object> snapshot = new LinkedHashMap<>();
+		snapshot.put("versions", domains);
+		snapshot.put("endpoints", endpoints);
+		return snapshot;
+	}
+
+	// 경기 저장 (최종 결과, 라이브 스코어보드)
+	@TransactionalEventListener(fallbackExecution = true)
+	@Order(VERSION_ORDER)
+	public void onGamesIngested(GamesIngestedEvent event) {
+		bump(SCHEDULE);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	@Order(VERSION_ORDER)
+	public void onScoreboardChanged(ScoreboardChangedEvent event) {
+		bump(SCHEDULE);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	@Order(VERSION_ORDER)
+	public void onRecordsIngested(RecordsIngestedEvent event) {
+		bump(RECORDS);
+	}
+
+	// 날짜가 바뀌면 지난 경기의 경기종료/경기예정 표시가 달라지므로 자정에 한 번 올림
+	@Scheduled(cron = "0 0 0 * * *")
+	public void midnight() {
+		bump(SCHEDULE);
+	}
+
+	private Version version(String domain) {
+		return versions.computeIfAbsent(domain, d -> new Version(d, epoch, 0));
+	}
+
+	// 버전 하나 (ETag 문자열은 올릴 때 한 번만 만듦)
+	private static class Version {
+		private final long number;
+		private final String etag;
+		private final long lastModified;
+
+		Version(String domain, String epoch, long number) {
+			this.number = number;
+			this.etag = "W/\"" + domain + "-" + epoch + "-" + number + "\"";
+			// Last-Modified 는 초 단위이므로 같은 초 안의 변경은 ETag 로 구분
+			this.lastModified = System.currentTimeMillis();
+		}
+	}
+}
@@ -0,0 +1,207 @@
+package com.example.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.WebRequest;
+
+import com.example.crawling.GamesIngestedEvent;
+import com.example.crawling.RecordsIngestedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+
+// 끝난 시즌 (올해보다 이전 연도) 조회 응답을 JSON 바이트 + gzip 바이트로 보관
+// 키 : 엔드포인트 + 파라미터, 강한 ETag (JSON 내용 해시) 와 응답 헤더도 미리 만들어 둠
+// 요청마다 쿼리/직렬화/압축 없이 If-None-Match 가 맞으면 304, 아니면 저장된 바이트를 그대로 씀
+// 브라우저/프록시에는 no-cache (보관은 하되 매번 ETag 로 확인) 라서 연도가 비워지면 다음 요청부터 새 내용
+// 올해 시즌은 캐시하지 않고, DataVersionClock 버전이 그대로면 쿼리 없이 304, 아니면 그때그때 직렬화
+// 지난 시즌이 다시 저장되면 (백필, 기록 재크롤링) 그 연도 항목만 비움
+@Service
+public class ResponseCache {
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private DataVersionClock dataVersionClock;
+
+	@Value("${response-cache.max-entries:2000}")
+	private int maxEntries;
+
+	private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			return size() > maxEntries;
+		}
+	};
+	// 연도 -> 비운 횟수 (entries 락 안에서만 읽고 씀)
+	// 읽기 시작할 때와 넣을 때 값이 다르면 그 사이에 비워진 것이므로 넣지 않음 (비우기 전 내용이 다시 들어가는 것 방지)
+	private final Map<Integer, Long> generations = new HashMap<>();
+
+	// year 가 끝난 시즌이면 캐시에서, 아니면 loader 결과를 바로 직렬화해서 응답
+	// key : "엔드포인트|파라미터..." (앞부분이 hit/miss 집계 이름), domain : 버전 검사할 영역 (null 이면 검사 안 함)
+	// 304 면 null 반환 (응답은 checkNotModified 가 이미 설정)
+	public ResponseEntity<byte[]> respond(String domain, String key, int year, WebRequest request, Supplier<Object> loader)
+			throws JsonProcessingException {
+		int bar = key.indexOf('|');
+		String endpoint = bar < 0 ? key : key.substring(0, bar);
+		if (!isFinalized(year)) {
+			if (domain != null && dataVersionClock.checkNotModified(domain, endpoint, request)) {
+				return null;
+			}
+			return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(objectMapper.writeValueAsBytes(loader.get()));
+		}
+		Entry entry;
+		long generation;
+		synchronized (entries) {
+			entry = entries.get(key);
+			generation = generations.getOrDefault(year, 0L);
+		}
+		if (entry == null) {
+			entry = new Entry(year, objectMapper.writeValueAsBytes(loader.get()));
+			synchronized (entries) {
+				if (generations.getOrDefault(year, 0L) == generation) {
+					entries.put(key, entry);
+				}
+			}
+		}
+		ResponseEntity<byte[]> response = entry.respond(request);
+		dataVersionClock.record(endpoint, response.getStatusCode() == HttpStatus.NOT_MODIFIED);
+		return response;
+	}
+
+	// 끝난 시즌인지 (올해보다 이전 연도)
+	public static boolean isFinalized(int year) {
+		return year > 0 && year < LocalDate.now().getYear();
+	}
+
+	// "yyyy-MM-dd" 의 연도 (형식이 다르면 -1, 캐시하지 않음)
+	public static int yearOf(String date) {
+		if (date == null || date.length() < 4) {
+			return -1;
+		}
+		try {
+			return Integer.parseInt(date.substring(0, 4));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	public void invalidateYear(int year) {
+		synchronized (entries) {
+			generations.merge(year, 1L, Long::sum);
+			entries.values().removeIf(entry -> entry.year == year);
+		}
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	// 경기 결과가 저장되면 (지난 시즌 백필 포함) 해당 연도 비움
+	@TransactionalEventListener(fallbackExecution = true)
+	@Order(DataVersionClock.CACHE_ORDER)
+	public void onGamesIngested(GamesIngestedEvent event) {
+		event.getDates().stream().map(LocalDate::getYear).distinct().forEach(this::invalidateYear);
+	}
+
+	// 시즌 기록이 바뀌면 해당 연도 비움
+	@TransactionalEventListener(fallbackExecution = true)
+	@Order(DataVersionClock.CACHE_ORDER)
+	public void onRecordsIngested(RecordsIngestedEvent event) {
+		invalidateYear(event.getYear());
+	}
+
+	// 캐시된 응답 하나 (본문/압축본/헤더 모두 만들 때 한 번만 계산)
+	private static class Entry {
+		private final int year;
+		private final byte[] json;
+		private final byte[] gzip;
+		private final String etag;
+		private final String gzipEtag;
+		private final HttpHeaders jsonHeaders;
+		private final HttpHeaders gzipHeaders;
+
+		Entry(int year, byte[] json) {
+			this.year = year;
+			this.json = json;
+			this.gzip = gzip(json);
+			// 같은 내용이라도 인코딩이 다르면 다른 표현이므로 ETag 도 구분
+			String hash = hash(json);
+			this.etag = "\"" + hash + "\"";
+			this.gzipEtag = "\"" + hash + "-gz\"";
+			this.jsonHeaders = headers(etag, null, json.length);
+			this.gzipHeaders = headers(gzipEtag, "gzip", gzip.length);
+		}
+
+		ResponseEntity<byte[]> respond(WebRequest request) {
+			String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+			boolean useGzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+			String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+			HttpHeaders headers = useGzip ? gzipHeaders : jsonHeaders;
+			if (ifNoneMatch != null && (ifNoneMatch.contains(useGzip ? gzipEtag : etag) || ifNoneMatch.trim().equals("*"))) {
+				return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+			}
+			return new ResponseEntity<>(useGzip ? gzip : json, headers, HttpStatus.OK);
+		}
+
+		private static HttpHeaders headers(String etag, String contentEncoding, int length) {
+			HttpHeaders headers = new HttpHeaders();
+			headers.setContentType(MediaType.APPLICATION_JSON);
+			headers.setETag(etag);
+			// 백필/재크롤링으로 지난 시즌도 바뀔 수 있어서 만료 시간 대신 매번 ETag 로 확인
+			headers.setCacheControl("no-cache");
+			headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+			if (contentEncoding != null) {
+				headers.set(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+			}
+			headers.setContentLength(length);
+			return HttpHeaders.readOnlyHttpHeaders(headers);
+		}
+
+		private static byte[] gzip(byte[] data) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+			try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+				gz.write(data);
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+			return out.toByteArray();
+		}
+
+		// SHA-256 앞 16바이트 hex
+		private static String hash(byte[] data) {
+			try {
+				byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+				StringBuilder sb = new StringBuilder();
+				for (int i = 0; i < 16; i++) {
+					sb.append(String.format("%02x", digest[i]));
+				}
+				return sb.toString();
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,216 @@
+package com.example.crawling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Proxy;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.mapper.Mappers;
+import com.example.scheduleresults.model.ScheduleResults;
+
+// 폴링 결과에 따라 다음 실행 시각을 고르는지 (DB/크롤링 없이 오늘 일정과 스코어보드 페이지를 직접 넣음)
+class AdaptiveCrawlSchedulerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 9, 11);
+    private static final LocalDateTime START = TODAY.atTime(18, 30);
+    private static final LocalDateTime TOMORROW = TODAY.plusDays(1).atStartOfDay();
+
+    private static final String[] NOT_STARTED = { "", "", "", "", "", "", "", "", "", "", "", "", "" };
+    private static final String[] FINAL_AWAY = { "0", "1", "0", "0", "2", "0", "0", "0", "0", "3", "7", "0", "2" };
+    private static final String[] FINAL_HOME = { "0", "0", "0", "3", "0", "0", "0", "1", "X", "4", "8", "1", "4" };
+    private static final String[] MIDGAME_AWAY = { "0", "1", "0", "0", "", "", "", "", "", "1", "3", "0", "1" };
+    private static final String[] MIDGAME_HOME = { "0", "0", "2", "", "", "", "", "", "", "2", "4", "0", "0" };
+
+    private final List<LocalDateTime> schedule = new ArrayList<>();
+    private final List<GameSnapshot> page = new ArrayList<>();
+    private int polls;
+    private int scoreboardWrites;
+
+    private AdaptiveCrawlScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ScoreBoardCrawler crawler = new ScoreBoardCrawler() {
+            @Override
+            public String getEngineName() {
+                return "test";
+            }
+
+            @Override
+            public List<GameSnapshot> crawl(LocalDate date) {
+                polls++;
+                return new ArrayList<>(page);
+            }
+        };
+        Crawling crawling = new Crawling();
+        ReflectionTestUtils.setField(crawling, "crawlers", List.of(crawler));
+        ReflectionTestUtils.setField(crawling, "defaultEngine", "test");
+        ReflectionTestUtils.setField(crawling, "defaultSeason", "정규");
+
+        // 저장된 경기 (DB 대신 메모리)
+        Map<String, String> seen = new HashMap<>();
+        SeenGameRegistry seenGameRegistry = new SeenGameRegistry() {
+            @Override
+            public boolean isUnchanged(GameSnapshot game) {
+                return game.getFingerprint().equals(seen.get(game.getKey()));
+            }
+
+            @Override
+            public void add(GameSnapshot game) {
+                seen.put(game.getKey(), game.getFingerprint());
+            }
+        };
+        ScoreBoardIngest scoreBoardIngest = new ScoreBoardIngest() {
+            @Override
+            public int ingest(List<GameSnapshot> games, String season) {
+                return games.size();
+            }
+
+            @Override
+            public void saveScoreboard(GameSnapshot game, String season) {
+                scoreboardWrites++;
+            }
+
+            @Override
+            public int updateScoreboard(ScoreboardDiff diff) {
+                scoreboardWrites++;
+                return 1;
+            }
+        };
+
+        LiveGamePoller liveGamePoller = new LiveGamePoller();
+        ReflectionTestUtils.setField(liveGamePoller, "crawling", crawling);
+        ReflectionTestUtils.setField(liveGamePoller, "scoreBoardIngest", scoreBoardIngest);
+        ReflectionTestUtils.setField(liveGamePoller, "seenGameRegistry", seenGameRegistry);
+        ReflectionTestUtils.setField(liveGamePoller, "crawlMetrics", new CrawlMetrics(10));
+        ApplicationEventPublisher eventPublisher = event -> { };
+        ReflectionTestUtils.setField(liveGamePoller, "eventPublisher", eventPublisher);
+
+        // 오늘 일정만 돌려주는 Mappers
+        Mappers mapper = (Mappers) Proxy.newProxyInstance(Mappers.class.getClassLoader(), new Class<?>[] { Mappers.class },
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("selectMainSchedule")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    List<ScheduleResults> games = new ArrayList<>();
+                    for (LocalDateTime start : schedule) {
+                        ScheduleResults game = new ScheduleResults();
+                        game.setGameDate(Timestamp.valueOf(start));
+                        games.add(game);
+                    }
+                    return games;
+                });
+
+        scheduler = new AdaptiveCrawlScheduler();
+        ReflectionTestUtils.setField(scheduler, "mapper", mapper);
+        ReflectionTestUtils.setField(scheduler, "crawling", crawling);
+        ReflectionTestUtils.setField(scheduler, "liveGamePoller", liveGamePoller);
+        ReflectionTestUtils.setField(scheduler, "leadMinutes", 10L);
+        ReflectionTestUtils.setField(scheduler, "liveIntervalSeconds", 30L);
+        ReflectionTestUtils.setField(scheduler, "idleIntervalMinutes", 10L);
+    }
+
+    private void game(String away, String home, String status, String[] awayCells, String[] homeCells) {
+        schedule.add(START);
+        GameSnapshot.Builder b = GameSnapshot.builder()
+                .date("2024.09.11(수)")
+                .groundTime("잠실 18:30")
+                .awayTeam(away)
+                .homeTeam(home)
+                .status(status);
+        for (String cell : awayCells) {
+            b.awayCell(cell);
+        }
+        for (String cell : homeCells) {
+            b.homeCell(cell);
+        }
+        page.add(b.build());
+    }
+
+    @Test
+    void noGamesWaitsForTomorrow() throws Exception {
+        assertEquals(TOMORROW, scheduler.run(TODAY.atTime(9, 0)));
+        assertEquals(0, polls);
+    }
+
+    @Test
+    void beforeFirstGameWaitsForLeadTime() throws Exception {
+        game("LG", "두산", "경기전", NOT_STARTED, NOT_STARTED);
+
+        assertEquals(START.minusMinutes(10), scheduler.run(TODAY.atTime(12, 0)));
+        assertEquals(0, polls);
+    }
+
+    @Test
+    void liveGamePollsShortly() throws Exception {
+        game("LG", "두산", "경기종료", FINAL_AWAY, FINAL_HOME);
+        game("KIA", "삼성", "5회말", MIDGAME_AWAY, MIDGAME_HOME);
+        LocalDateTime now = TODAY.atTime(20, 0);
+
+        assertEquals(now.plusSeconds(30), scheduler.run(now));
+    }
+
+    @Test
+    void allFinishedWaitsForTomorrow() throws Exception {
+        game("LG", "두산", "경기종료", FINAL_AWAY, FINAL_HOME);
+
+        assertEquals(TOMORROW, scheduler.run(TODAY.atTime(21, 30)));
+    }
+
+    @Test
+    void suspendedAfterStartIsNotLive() throws Exception {
+        game("LG", "두산", "경기종료", FINAL_AWAY, FINAL_HOME);
+        game("KIA", "삼성", "서스펜디드", MIDGAME_AWAY, MIDGAME_HOME);
+        LocalDateTime now = TODAY.atTime(21, 30);
+
+        assertEquals(TOMORROW, scheduler.run(now));
+        // 상태 표시는 한 번 저장하고, 다시 읽어도 그대로면 쓰지 않음
+        assertEquals(1, scoreboardWrites);
+        assertEquals(TOMORROW, scheduler.run(now.plusMinutes(1)));
+        assertEquals(1, scoreboardWrites);
+    }
+
+    @Test
+    void calledAfterStartIsNotLive() throws Exception {
+        game("KIA", "삼성", "우천취소", MIDGAME_AWAY, MIDGAME_HOME);
+
+        assertEquals(TOMORROW, scheduler.run(TODAY.atTime(20, 0)));
+    }
+
+    @Test
+    void cancelledBeforeStartIsNotPending() throws Exception {
+        game("LG", "두산", "경기종료", FINAL_AWAY, FINAL_HOME);
+        game("KIA", "삼성", "우천취소", NOT_STARTED, NOT_STARTED);
+
+        assertEquals(TOMORROW, scheduler.run(TODAY.atTime(21, 30)));
+    }
+
+    @Test
+    void allCancelledWaitsForTomorrow() throws Exception {
+        game("LG", "두산", "그라운드사정취소", NOT_STARTED, NOT_STARTED);
+        game("KIA", "삼성", "우천취소", NOT_STARTED, NOT_STARTED);
+
+        assertEquals(TOMORROW, scheduler.run(TODAY.atTime(18, 25)));
+    }
+
+    @Test
+    void delayedStartKeepsCheckingIdle() throws Exception {
+        // 시작 시각이 지났지만 시작 안 함 (우천 지연), 취소가 아니므로 계속 확인
+        game("LG", "두산", "경기종료", FINAL_AWAY, FINAL_HOME);
+        game("KIA", "삼성", "경기전", NOT_STARTED, NOT_STARTED);
+        LocalDateTime now = TODAY.atTime(19, 0);
+
+        assertEquals(now.plusMinutes(10), scheduler.run(now));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.crawling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+// 경기 종료 판단 (isComplete) 확인
+class GameSnapshotTest {
+
+    // 9회 + R H E B
+    private static GameSnapshot game(String status, String pitcher, String[] away, String[] home) {
+        GameSnapshot.Builder b = GameSnapshot.builder()
+                .date("2024.09.11(수)")
+                .groundTime("잠실 18:30")
+                .awayTeam("LG")
+                .homeTeam("두산")
+                .status(status)
+                .pitcher(pitcher);
+        for (String cell : away) {
+            b.awayCell(cell);
+        }
+        for (String cell : home) {
+            b.homeCell(cell);
+        }
+        return b.build();
+    }
+
+    private static final String[] TIE_AWAY = { "0", "1", "0", "0", "2", "0", "0", "0", "0", "3", "7", "0", "2" };
+    private static final String[] TIE_HOME = { "0", "0", "0", "3", "0", "0", "0", "0", "0", "3", "8", "1", "4" };
+
+    @Test
+    void tieWithoutPitchersIsComplete() {
+        GameSnapshot tie = game("경기종료", "", TIE_AWAY, TIE_HOME);
+
+        assertTrue(tie.isComplete());
+        assertEquals("무", tie.getAwayResult());
+        assertEquals("무", tie.getHomeResult());
+        assertEquals("", tie.getAwayPitcher());
+    }
+
+    @Test
+    void tieWithoutStatusIsCompleteWhenCellsAreFilled() {
+        // Selenium 엔진 등 상태 표시를 못 읽은 경우
+        assertTrue(game(null, "", TIE_AWAY, TIE_HOME).isComplete());
+        assertTrue(game("", "  ", TIE_AWAY, TIE_HOME).isComplete());
+    }
+
+    @Test
+    void noDecisionGameIsComplete() {
+        String[] away = { "0", "0", "0", "0", "0", "-", "-", "-", "-", "0", "2", "0", "1" };
+        String[] home = { "1", "0", "0", "0", "0", "-", "-", "-", "-", "1", "3", "0", "0" };
+
+        // 5회 강우콜드, 투수 문구 없이 올라온 경우
+        assertTrue(game("경기종료", "", away, home).isComplete());
+    }
+
+    @Test
+    void inProgressStatusIsNotComplete() {
+        // 칸이 다 차 있어도 상태가 경기 중이면 아직 끝나지 않음
+        assertFalse(game("9회말", "", TIE_AWAY, TIE_HOME).isComplete());
+    }
+
+    @Test
+    void cancelledIsNotComplete() {
+        String[] empty = { "", "", "", "", "", "", "", "", "", "", "", "", "" };
+
+        assertFalse(game("우천취소", "", empty, empty).isComplete());
+        assertFalse(game(null, "", empty, empty).isComplete());
+    }
+
+    @Test
+    void emptyInningIsNotComplete() {
+        String[] away = { "0", "1", "0", "0", "2", "", "", "", "", "3", "5", "0", "2" };
+        String[] home = { "0", "0", "0", "3", "", "", "", "", "", "3", "4", "1", "1" };
+
+        assertFalse(game(null, "", away, home).isComplete());
+    }
+
+    @Test
+    void finishedWithDecisionIsComplete() {
+        String[] away = { "0", "1", "0", "0", "2", "0", "0", "0", "0", "3", "7", "0", "2" };
+        String[] home = { "0", "0", "0", "3", "0", "0", "0", "1", "X", "4", "8", "1", "4" };
+        GameSnapshot game = game("경기종료", "승: 곽빈 세: 김택연 패: 엔스", away, home);
+
+        assertTrue(game.isComplete());
+        assertEquals("곽빈", game.getHomePitcher());
+        assertEquals("엔스", game.getAwayPitcher());
+        assertEquals("승", game.getHomeResult());
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.crawling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// 날짜마다 마지막 페이지 하나만 남는지 확인
+class PageArchiveTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 9, 11);
+
+    private Path dir;
+    private PageArchive archive;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir = Files.createTempDirectory("page-archive");
+        archive = new PageArchive(true, dir.toString());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.sorted((a, b) -> b.compareTo(a)).collect(Collectors.toList())) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private List<Path> objects() throws IOException {
+        try (Stream<Path> files = Files.walk(dir.resolve("objects"))) {
+            return files.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    void repeatedPollsKeepOnlyLatestPage() throws IOException {
+        // 경기 중 폴링마다 __VIEWSTATE 가 바뀐 페이지
+        for (int tick = 0; tick < 5; tick++) {
+            archive.store(DAY, "<html>2024.09.11(수) viewstate=" + tick + "</html>");
+        }
+
+        assertEquals(1, objects().size());
+        assertEquals("<html>2024.09.11(수) viewstate=4</html>", archive.load(DAY));
+    }
+
+    @Test
+    void samePageIsStoredOnce() throws IOException {
+        archive.store(DAY, "<html>2024.09.11(수)</html>");
+        archive.store(DAY, "<html>2024.09.11(수)</html>");
+
+        assertEquals(1, objects().size());
+        assertEquals(List.of(DAY), archive.getDates());
+    }
+
+    @Test
+    void datesKeepTheirOwnPage() throws IOException {
+        archive.store(DAY, "<html>2024.09.11(수)</html>");
+        archive.store(DAY.plusDays(1), "<html>2024.09.12(목)</html>");
+        archive.store(DAY.plusDays(1), "<html>2024.09.12(목) 경기종료</html>");
+
+        assertEquals(2, objects().size());
+        assertEquals("<html>2024.09.11(수)</html>", archive.load(DAY));
+        assertEquals("<html>2024.09.12(목) 경기종료</html>", archive.load(DAY.plusDays(1)));
+    }
+
+    @Test
+    void pruneRemovesOrphanedObjects() throws IOException {
+        archive.store(DAY, "<html>2024.09.11(수)</html>");
+        // 이전 버전에서 남은, 어느 날짜도 가리키지 않는 파일
+        Path orphan = dir.resolve("objects").resolve("ff").resolve("ff00.html.gz");
+        Files.createDirectories(orphan.getParent());
+        Files.write(orphan, new byte[] { 1, 2, 3 });
+
+        archive.prune();
+
+        assertEquals(1, objects().size());
+        assertTrue(!Files.exists(orphan));
+        assertEquals("<html>2024.09.11(수)</html>", archive.load(DAY));
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.crawling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+// p.win 문자열 (승: / 패: / 세:) 파싱 확인
+class PitcherDecisionParserTest {
+
+    @Test
+    void winLossSave() {
+        PitcherDecision decision = PitcherDecisionParser.parse("승: 양현종 세: 정해영 패: 박세웅");
+
+        assertEquals("양현종", decision.getWinningPitcher());
+        assertEquals("박세웅", decision.getLosingPitcher());
+        assertEquals("정해영", decision.getSavePitcher());
+    }
+
+    @Test
+    void orderDoesNotMatter() {
+        PitcherDecision decision = PitcherDecisionParser.parse("패: 박세웅 승: 양현종 세: 정해영");
+
+        assertEquals("양현종", decision.getWinningPitcher());
+        assertEquals("박세웅", decision.getLosingPitcher());
+        assertEquals("정해영", decision.getSavePitcher());
+    }
+
+    @Test
+    void winLossOnly() {
+        PitcherDecision decision = PitcherDecisionParser.parse("승: 주승우 패: 노경은");
+
+        assertEquals("주승우", decision.getWinningPitcher());
+        assertEquals("노경은", decision.getLosingPitcher());
+        assertEquals("", decision.getSavePitcher());
+    }
+
+    @Test
+    void saveMarkerWithoutName() {
+        PitcherDecision decision = PitcherDecisionParser.parse("승: 원태인 세: 패: 임찬규");
+
+        assertEquals("원태인", decision.getWinningPitcher());
+        assertEquals("임찬규", decision.getLosingPitcher());
+        assertEquals("", decision.getSavePitcher());
+    }
+
+    @Test
+    void extraWhitespace() {
+        PitcherDecision decision = PitcherDecisionParser.parse("  승:   곽빈 \t 세:김택연   패:  \n 엄상백  ");
+
+        assertEquals("곽빈", decision.getWinningPitcher());
+        assertEquals("엄상백", decision.getLosingPitcher());
+        assertEquals("김택연", decision.getSavePitcher());
+    }
+
+    @Test
+    void foreignPlayerNames() {
+        PitcherDecision decision = PitcherDecisionParser.parse("승: 네일 세: 정해영 패: 하트");
+
+        assertEquals("네일", decision.getWinningPitcher());
+        assertEquals("하트", decision.getLosingPitcher());
+        assertEquals("정해영", decision.getSavePitcher());
+    }
+
+    @Test
+    void emptyLineForTieOrNoDecision() {
+        assertSame(PitcherDecision.NONE, PitcherDecisionParser.parse(""));
+        assertSame(PitcherDecision.NONE, PitcherDecisionParser.parse("   "));
+        assertSame(PitcherDecision.NONE, PitcherDecisionParser.parse(null));
+    }
+
+    @Test
+    void homeAndAwayPitcherFollowScore() {
+        PitcherDecision decision = PitcherDecisionParser.parse("승: 양현종 세: 정해영 패: 박세웅");
+
+        // 홈팀 승리 (원정 3 : 홈 4)
+        assertEquals("양현종", decision.getHomePitcher(3, 4));
+        assertEquals("박세웅", decision.getAwayPitcher(3, 4));
+        // 원정팀 승리 (원정 5 : 홈 2)
+        assertEquals("박세웅", decision.getHomePitcher(5, 2));
+        assertEquals("양현종", decision.getAwayPitcher(5, 2));
+    }
+}
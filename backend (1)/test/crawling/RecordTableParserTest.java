@@ -0,0 +1,68 @@
+package com.example.crawling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+// 저장해 둔 투수 기본기록 페이지 (2024, Basic1) 로 기록 표 파서 확인
+// 정렬 링크가 들어간 헤더, 선수 상세 링크, "-" 승률, 분수 이닝이 들어있음
+class RecordTableParserTest {
+
+    static String page(String name) throws IOException {
+        try (InputStream in = RecordTableParserTest.class.getResourceAsStream(name)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void parseReadsHeaderAndRows() throws IOException {
+        List<List<String>> table = RecordTableParser.parse(page("PitcherBasic1_2024.html"));
+
+        assertEquals(5, table.size());
+        assertEquals(Arrays.asList("순위", "선수명", "팀명", "ERA", "G", "W", "L", "SV", "HLD", "WPCT", "IP", "H", "HR", "BB", "HBP",
+                "SO", "R", "ER", "WHIP"), table.get(0));
+        assertEquals(Arrays.asList("1", "네일", "KIA", "2.53", "26", "12", "5", "0", "0", "0.706", "149 1/3", "135", "5", "39", "8",
+                "138", "53", "42", "1.17"), table.get(1));
+        for (List<String> row : table) {
+            assertEquals(19, row.size());
+        }
+        // 값 정리는 value() 에서 (파서는 화면 문자열 그대로)
+        assertEquals("170 2/3", table.get(3).get(10));
+        assertEquals("-", table.get(4).get(9));
+    }
+
+    @Test
+    void pageWithoutRecordTableIsEmpty() {
+        assertTrue(RecordTableParser.parse("<html><body><table><tr><td>기록이 없습니다.</td></tr></table></body></html>").isEmpty());
+        assertTrue(RecordTableParser.parse("").isEmpty());
+    }
+
+    @Test
+    void valueNormalizesCells() {
+        assertNull(RecordTableParser.value(null));
+        assertNull(RecordTableParser.value(""));
+        assertNull(RecordTableParser.value("-"));
+        assertEquals("2596", RecordTableParser.value("2,596"));
+        assertEquals("0.706", RecordTableParser.value("0.706"));
+        assertEquals("네일", RecordTableParser.value("네일"));
+    }
+
+    @Test
+    void valueConvertsFractionalInnings() {
+        assertEquals("170.667", RecordTableParser.value("170 2/3"));
+        assertEquals("149.333", RecordTableParser.value("149 1/3"));
+        assertEquals("0.667", RecordTableParser.value("2/3"));
+        assertEquals("1200.333", RecordTableParser.value("1,200 1/3"));
+        assertEquals("157", RecordTableParser.value("157"));
+        // 숫자가 아니면 그대로
+        assertEquals("a/b", RecordTableParser.value("a/b"));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.crawling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+// 여러 기록 페이지 (Basic1, Basic2) 를 키(연도, 선수, 팀) 기준으로 한 행으로 합치는지
+class RecordsCrawlerTest {
+
+    static Map<String, Map<String, String>> readPitchers() throws IOException {
+        Map<String, Map<String, String>> rows = new LinkedHashMap<>();
+        RecordsCrawler.readRows(RecordTableSpec.PITCHERS, 2024, RecordTableParserTest.page("PitcherBasic1_2024.html"), rows);
+        RecordsCrawler.readRows(RecordTableSpec.PITCHERS, 2024, RecordTableParserTest.page("PitcherBasic2_2024.html"), rows);
+        return rows;
+    }
+
+    @Test
+    void pagesAreMergedByKey() throws IOException {
+        Map<String, Map<String, String>> rows = readPitchers();
+
+        assertEquals(4, rows.size());
+        Map<String, String> kwak = rows.get("2024|곽빈|두산|");
+        // Basic1
+        assertEquals("170.667", kwak.get("ip"));
+        assertEquals("3.32", kwak.get("era"));
+        assertEquals("1.27", kwak.get("whip"));
+        // Basic2
+        assertEquals("16", kwak.get("qs"));
+        assertEquals("2862", kwak.get("np"));
+        assertEquals("0.230", kwak.get("avg"));
+        // 순위는 첫 페이지 (ERA 순) 기준, Basic2 는 QS 순으로 2위
+        assertEquals("3", kwak.get("ranking"));
+        assertEquals("2024", kwak.get("year"));
+    }
+
+    @Test
+    void mergedRowsHaveEveryColumn() throws IOException {
+        for (Map<String, String> row : readPitchers().values()) {
+            for (String column : RecordTableSpec.PITCHERS.getColumns()) {
+                assertTrue(row.containsKey(column), row.get("pitchers_name") + " " + column);
+            }
+            assertEquals(RecordTableSpec.PITCHERS.getColumns().size(), row.size());
+        }
+        // 결정이 없는 투수의 승률 "-" 은 null 로 저장
+        Map<String, String> kim = readPitchers().get("2024|김민수|KT|");
+        assertNull(kim.get("wpct"));
+        assertEquals("0.667", kim.get("ip"));
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.crawling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 크롤링한 기록을 저장된 행(DB 타입)과 비교해서 바뀐 행만 쓰는지
+class RecordsIngestTest {
+
+    // 저장할 때 DECIMAL(소수 셋째 자리) 로 바뀌는 투수 기록 컬럼, 나머지 숫자는 INT
+    private static final Set<String> DECIMALS = Set.of("era", "wpct", "ip", "whip", "avg");
+    private static final Set<String> TEXTS = Set.of("pitchers_name", "team_name");
+
+    // 기록 테이블 하나를 흉내내는 JdbcTemplate (upsert 한 값을 컬럼 타입대로 바꿔서 보관)
+    private static class RecordTable extends JdbcTemplate {
+        final Set<String> decimals;
+        final Map<String, Map<String, Object>> rows = new LinkedHashMap<>();
+        int batches;
+
+        RecordTable(Set<String> decimals) {
+            this.decimals = decimals;
+        }
+
+        @Override
+        public List<Map<String, Object>> queryForList(String sql, Object... args) {
+            List<Map<String, Object>> result = new ArrayList<>();
+            for (Map<String, Object> row : rows.values()) {
+                if (row.get("year").equals(args[0])) {
+                    result.add(new HashMap<>(row));
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            batches++;
+            List<String> columns = RecordTableSpec.PITCHERS.getColumns();
+            for (Object[] args : batchArgs) {
+                Map<String, Object> row = new HashMap<>();
+                for (int i = 0; i < args.length; i++) {
+                    row.put(columns.get(i), stored(columns.get(i), (String) args[i]));
+                }
+                rows.put(row.get("year") + "|" + row.get("pitchers_name") + "|" + row.get("team_name"), row);
+            }
+            return new int[batchArgs.size()];
+        }
+
+        // MariaDB 에 저장했다가 다시 읽은 값 (DECIMAL -> BigDecimal, INT -> Integer 반올림)
+        private Object stored(String column, String value) {
+            if (value == null || TEXTS.contains(column)) {
+                return value;
+            }
+            BigDecimal number = new BigDecimal(value);
+            if (decimals.contains(column)) {
+                return number.setScale(3, RoundingMode.HALF_UP);
+            }
+            return number.setScale(0, RoundingMode.HALF_UP).intValueExact();
+        }
+    }
+
+    private final List<Object> events = new ArrayList<>();
+
+    private RecordsIngest ingest(RecordTable table) {
+        RecordsIngest ingest = new RecordsIngest();
+        ApplicationEventPublisher eventPublisher = events::add;
+        ReflectionTestUtils.setField(ingest, "jdbcTemplate", table);
+        ReflectionTestUtils.setField(ingest, "eventPublisher", eventPublisher);
+        return ingest;
+    }
+
+    private static List<Map<String, String>> crawled() throws IOException {
+        return new ArrayList<>(RecordsCrawlerTest.readPitchers().values());
+    }
+
+    @Test
+    void fractionalInningsMatchStoredDecimal() {
+        String ip = RecordTableParser.value("170 2/3");
+        assertTrue(RecordsIngest.sameValue(new BigDecimal("170.667"), ip));
+        assertTrue(RecordsIngest.sameValue(170.667, ip));
+        assertFalse(RecordsIngest.sameValue(new BigDecimal("170.333"), ip));
+        assertFalse(RecordsIngest.sameValue(new BigDecimal("170.000"), ip));
+    }
+
+    @Test
+    void fractionalInningsMatchStoredInt() {
+        // INT 컬럼에는 반올림해서 들어가므로 171 과 같음
+        String ip = RecordTableParser.value("170 2/3");
+        assertTrue(RecordsIngest.sameValue(171, ip));
+        assertTrue(RecordsIngest.sameValue(171L, ip));
+        assertFalse(RecordsIngest.sameValue(170, ip));
+    }
+
+    @Test
+    void sameValueComparesByStoredType() {
+        assertTrue(RecordsIngest.sameValue(new BigDecimal("2.530"), "2.53"));
+        assertTrue(RecordsIngest.sameValue(2596, RecordTableParser.value("2,596")));
+        assertTrue(RecordsIngest.sameValue("KIA", "KIA"));
+        assertTrue(RecordsIngest.sameValue(null, RecordTableParser.value("-")));
+        assertFalse(RecordsIngest.sameValue(new BigDecimal("0.706"), null));
+        assertFalse(RecordsIngest.sameValue(null, "0.706"));
+        assertFalse(RecordsIngest.sameValue(12, "13"));
+        assertFalse(RecordsIngest.sameValue(12, "abc"));
+        assertFalse(RecordsIngest.sameValue("KIA", "KT"));
+    }
+
+    @Test
+    void secondCrawlWritesNothing() throws IOException {
+        RecordTable table = new RecordTable(DECIMALS);
+        RecordsIngest ingest = ingest(table);
+
+        assertEquals(4, ingest.apply(RecordTableSpec.PITCHERS, 2024, crawled()));
+        assertEquals(1, table.batches);
+        assertEquals(1, events.size());
+
+        // 같은 페이지를 다시 읽으면 저장된 값(DB 타입) 과 모두 같아서 DB 쓰기/이벤트 없음
+        assertEquals(0, ingest.apply(RecordTableSpec.PITCHERS, 2024, crawled()));
+        assertEquals(1, table.batches);
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    void secondCrawlWritesNothingWithIntInnings() throws IOException {
+        // 이닝을 INT 로 저장하는 테이블 (170 2/3 -> 171)
+        RecordTable table = new RecordTable(Set.of("era", "wpct", "whip", "avg"));
+        RecordsIngest ingest = ingest(table);
+
+        assertEquals(4, ingest.apply(RecordTableSpec.PITCHERS, 2024, crawled()));
+        assertEquals(171, table.rows.get("2024|곽빈|두산").get("ip"));
+
+        assertEquals(0, ingest.apply(RecordTableSpec.PITCHERS, 2024, crawled()));
+        assertEquals(1, table.batches);
+    }
+
+    @Test
+    void onlyChangedRowIsWritten() throws IOException {
+        RecordTable table = new RecordTable(DECIMALS);
+        RecordsIngest ingest = ingest(table);
+        ingest.apply(RecordTableSpec.PITCHERS, 2024, crawled());
+
+        // 다음 등판 후 : 곽빈 1/3 이닝 추가
+        List<Map<String, String>> rows = crawled();
+        for (Map<String, String> row : rows) {
+            if ("곽빈".equals(row.get("pitchers_name"))) {
+                row.put("ip", RecordTableParser.value("171"));
+            }
+        }
+
+        assertEquals(1, ingest.apply(RecordTableSpec.PITCHERS, 2024, rows));
+        assertEquals(new BigDecimal("171.000"), table.rows.get("2024|곽빈|두산").get("ip"));
+        assertEquals(2, events.size());
+        assertEquals(1, ((RecordsIngestedEvent) events.get(1)).getChangedRows());
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.crawling;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+// 요청한 날짜와 읽은 페이지 날짜 비교 (달력 선택 실패로 다른 날 페이지를 읽은 경우)
+class ScoreBoardCrawlerTest {
+
+    private static GameSnapshot game(String date) {
+        GameSnapshot.Builder b = GameSnapshot.builder()
+                .date(date)
+                .groundTime("잠실 18:30")
+                .awayTeam("LG")
+                .homeTeam("두산")
+                .status("경기종료");
+        for (String cell : new String[] { "0", "1", "0", "0", "2", "0", "0", "0", "0", "3", "7", "0", "2" }) {
+            b.awayCell(cell);
+        }
+        for (String cell : new String[] { "0", "0", "0", "3", "0", "0", "0", "1", "X", "4", "8", "1", "4" }) {
+            b.homeCell(cell);
+        }
+        return b.build();
+    }
+
+    @Test
+    void sameDayPasses() {
+        ScoreBoardCrawler.requireDate(LocalDate.of(2024, 9, 11), List.of(game("2024.09.11(수)"), game("2024.09.11(수)")));
+    }
+
+    @Test
+    void noGamesPasses() {
+        ScoreBoardCrawler.requireDate(LocalDate.of(2024, 9, 11), List.of());
+    }
+
+    @Test
+    void otherDayPageIsRejected() {
+        // 날짜 선택이 안 먹어서 오늘 (처음 열린) 페이지를 그대로 읽은 경우
+        assertThrows(IllegalStateException.class,
+                () -> ScoreBoardCrawler.requireDate(LocalDate.of(2024, 9, 10), List.of(game("2024.09.11(수)"))));
+    }
+}
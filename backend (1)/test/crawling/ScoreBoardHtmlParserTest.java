@@ -0,0 +1,190 @@
+package com.example.crawling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 저장해 둔 ScoreBoard.aspx 페이지 (2024.09.11) 로 파서 확인
+// 종료 / 진행 중 / 우천취소 / 연장 / 무승부 경기가 한 페이지에 들어있음
+class ScoreBoardHtmlParserTest {
+
+    private static final String SEARCH_DATE_FIELD = "ctl00$ctl00$ctl00$cphContents$cphContents$cphContents$hfSearchDate";
+
+    private ScoreBoardHtmlParser parser;
+    private CrawlMetrics crawlMetrics;
+    private String html;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        parser = new ScoreBoardHtmlParser();
+        crawlMetrics = new CrawlMetrics(10);
+        ReflectionTestUtils.setField(parser, "crawlMetrics", crawlMetrics);
+        try (InputStream in = ScoreBoardHtmlParserTest.class.getResourceAsStream("ScoreBoard_20240911.html")) {
+            html = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void parsesEveryGameOnThePage() {
+        List<GameSnapshot> games = parser.parse(html);
+
+        // script 안의 가짜 smsScore 는 경기로 읽지 않음
+        assertEquals(5, games.size());
+        Map<?, ?> counters = (Map<?, ?>) crawlMetrics.snapshot().get("counters");
+        assertEquals(0L, counters.get(CrawlMetrics.PARSE_FAILURES));
+        for (GameSnapshot game : games) {
+            assertEquals(LocalDate.of(2024, 9, 11), game.getDate());
+            assertEquals("수", game.getDayOfTheWeek());
+            assertEquals(LocalTime.of(18, 30), game.getTime());
+            assertEquals(12, game.getInningCount());
+        }
+    }
+
+    @Test
+    void finishedGame() {
+        GameSnapshot game = parser.parse(html).get(0);
+
+        assertEquals("2024.09.11(수)|광주 18:30|롯데|KIA", game.getKey());
+        assertEquals("광주", game.getGround());
+        assertEquals("롯데", game.getAwayTeam());
+        assertEquals("KIA", game.getHomeTeam());
+
+        int[] away = { 0, 0, 1, 0, 0, 0, 2, 0, 0 };
+        int[] home = { 1, 0, 0, 2, 0, 1, 0, 0, GameSnapshot.SKIPPED };
+        for (int inning = 1; inning <= 9; inning++) {
+            assertEquals(away[inning - 1], game.getAwayInning(inning), "원정 " + inning + "회");
+            assertEquals(home[inning - 1], game.getHomeInning(inning), "홈 " + inning + "회");
+        }
+        for (int inning = 10; inning <= 12; inning++) {
+            assertEquals(GameSnapshot.NOT_PLAYED, game.getAwayInning(inning));
+            assertEquals(GameSnapshot.NOT_PLAYED, game.getHomeInning(inning));
+        }
+        assertEquals(GameSnapshot.EMPTY, game.getAwayInning(13));
+
+        assertEquals(3, game.getAwayRuns());
+        assertEquals(8, game.getAwayHits());
+        assertEquals(1, game.getAwayErrors());
+        assertEquals(3, game.getAwayBalls());
+        assertEquals(4, game.getHomeRuns());
+        assertEquals(10, game.getHomeHits());
+        assertEquals(0, game.getHomeErrors());
+        assertEquals(4, game.getHomeBalls());
+
+        assertEquals("경기종료", game.getStatus());
+        assertEquals("승: 양현종 세: 정해영 패: 박세웅", game.getPitcherText());
+        assertEquals("양현종", game.getHomePitcher());
+        assertEquals("박세웅", game.getAwayPitcher());
+        assertEquals("패", game.getAwayResult());
+        assertEquals("승", game.getHomeResult());
+        assertTrue(game.isStarted());
+        assertTrue(game.isComplete());
+    }
+
+    @Test
+    void inProgressGame() {
+        GameSnapshot game = parser.parse(html).get(1);
+
+        assertEquals("2024.09.11(수)|잠실 18:30|LG|두산", game.getKey());
+        assertEquals(2, game.getAwayInning(4));
+        assertEquals(0, game.getAwayInning(5));
+        assertEquals(GameSnapshot.EMPTY, game.getAwayInning(6));
+        // &nbsp; 만 있는 칸도 빈 칸
+        assertEquals(GameSnapshot.EMPTY, game.getHomeInning(5));
+        assertEquals(3, game.getAwayRuns());
+        assertEquals(1, game.getHomeRuns());
+        assertEquals("5회말", game.getStatus());
+        assertEquals("", game.getPitcherText());
+        assertTrue(game.isStarted());
+        assertFalse(game.isComplete());
+    }
+
+    @Test
+    void cancelledGame() {
+        GameSnapshot game = parser.parse(html).get(2);
+
+        assertEquals("2024.09.11(수)|대구 18:30|NC|삼성", game.getKey());
+        for (int inning = 1; inning <= 12; inning++) {
+            assertEquals(GameSnapshot.EMPTY, game.getAwayInning(inning));
+            assertEquals(GameSnapshot.EMPTY, game.getHomeInning(inning));
+        }
+        assertEquals(GameSnapshot.EMPTY, game.getAwayRuns());
+        assertEquals(GameSnapshot.EMPTY, game.getHomeBalls());
+        assertEquals("우천취소", game.getStatus());
+        assertEquals("", game.getAwayResult());
+        assertFalse(game.isStarted());
+        assertFalse(game.isComplete());
+    }
+
+    @Test
+    void extraInningGame() {
+        GameSnapshot game = parser.parse(html).get(3);
+
+        assertEquals("2024.09.11(수)|문학 18:30|키움|SSG", game.getKey());
+        assertEquals(0, game.getAwayInning(10));
+        assertEquals(2, game.getAwayInning(11));
+        assertEquals(0, game.getHomeInning(11));
+        assertEquals(GameSnapshot.NOT_PLAYED, game.getAwayInning(12));
+        // 두번째 tScore 테이블 (99) 은 무시
+        assertEquals(6, game.getAwayRuns());
+        assertEquals(11, game.getAwayHits());
+        assertEquals(4, game.getHomeRuns());
+        assertEquals(6, game.getHomeBalls());
+
+        assertEquals("주승우", game.getDecision().getWinningPitcher());
+        assertEquals("노경은", game.getDecision().getLosingPitcher());
+        assertEquals("", game.getDecision().getSavePitcher());
+        assertEquals("주승우", game.getAwayPitcher());
+        assertEquals("노경은", game.getHomePitcher());
+        assertTrue(game.isComplete());
+    }
+
+    @Test
+    void tieGameWithoutDecision() {
+        GameSnapshot game = parser.parse(html).get(4);
+
+        assertEquals("2024.09.11(수)|수원 18:30|한화|KT", game.getKey());
+        assertEquals(0, game.getAwayInning(12));
+        assertEquals(0, game.getHomeInning(12));
+        assertEquals(5, game.getAwayRuns());
+        assertEquals(5, game.getHomeRuns());
+        assertEquals("", game.getPitcherText());
+        assertSame(PitcherDecision.NONE, game.getDecision());
+        assertEquals("무", game.getAwayResult());
+        assertEquals("무", game.getHomeResult());
+        assertEquals("", game.getAwayPitcher());
+        assertEquals("", game.getHomePitcher());
+        // 승/패 투수가 없어도 끝난 경기
+        assertTrue(game.isComplete());
+    }
+
+    @Test
+    void hiddenInputsForPostback() {
+        Map<String, String> inputs = parser.parseHiddenInputs(html);
+
+        assertEquals(List.of("__EVENTTARGET", "__EVENTARGUMENT", "__VIEWSTATE", "__VIEWSTATEGENERATOR",
+                "__EVENTVALIDATION", SEARCH_DATE_FIELD), List.copyOf(inputs.keySet()));
+        assertEquals("", inputs.get("__EVENTTARGET"));
+        assertEquals("", inputs.get("__EVENTARGUMENT"));
+        // 엔티티는 풀어서 그대로 다시 보낼 수 있어야 함
+        assertEquals("/wEPDwUKMTY1NDU2MTA1Mg9kFgJmD2QWAmYPZBYCZg9kFgICAw9kFgQCAQ9kFgICAQ8WAh4EVGV4dAUKMjAyNC4wOS4xMWRk+3kLq8Q=",
+                inputs.get("__VIEWSTATE"));
+        assertEquals("B8A9A0F4", inputs.get("__VIEWSTATEGENERATOR"));
+        assertEquals("/wEdAAOQ2vZ8aGk1bKp0&Yx2b9dWQk3Vd", inputs.get("__EVENTVALIDATION"));
+        assertEquals("20240911", inputs.get(SEARCH_DATE_FIELD));
+        // hidden 이 아닌 입력칸은 포함하지 않음
+        assertFalse(inputs.containsKey("ctl00$ctl00$ctl00$txtSearch"));
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.crawling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+// 크롬 없이 가짜 WebDriver 로 풀 동작 확인
+class WebDriverPoolTest {
+
+    // 만들어진 가짜 세션들 (만든 순서대로)
+    private final List<StubDriver> created = new ArrayList<>();
+
+    private WebDriverPool pool(int size, long maxAgeMinutes, long borrowTimeoutSeconds) {
+        WebDriverPool pool = new WebDriverPool(size, maxAgeMinutes, borrowTimeoutSeconds);
+        pool.setDriverFactory(() -> {
+            StubDriver stub = new StubDriver();
+            created.add(stub);
+            return stub.driver;
+        });
+        return pool;
+    }
+
+    @Test
+    void borrowAndReleaseReusesSession() throws Exception {
+        WebDriverPool pool = pool(2, 60, 1);
+
+        WebDriver first = pool.borrow();
+        assertEquals(1, pool.getLeasedCount());
+        assertEquals(0, pool.getIdleCount());
+
+        pool.release(first);
+        assertEquals(0, pool.getLeasedCount());
+        assertEquals(1, pool.getIdleCount());
+
+        WebDriver second = pool.borrow();
+        assertSame(first, second);
+        assertEquals(1, created.size());
+        assertEquals(0, created.get(0).quitCount);
+
+        pool.release(second);
+        pool.shutdown();
+        assertEquals(1, created.get(0).quitCount);
+    }
+
+    @Test
+    void deadIdleSessionIsEvictedOnBorrow() throws Exception {
+        WebDriverPool pool = pool(1, 60, 1);
+
+        WebDriver first = pool.borrow();
+        pool.release(first);
+        created.get(0).alive = false;
+
+        WebDriver second = pool.borrow();
+        assertNotSame(first, second);
+        assertEquals(2, created.size());
+        assertEquals(1, created.get(0).quitCount);
+        assertEquals(0, pool.getIdleCount());
+        pool.release(second);
+    }
+
+    @Test
+    void invalidatedSessionIsNotReused() throws Exception {
+        WebDriverPool pool = pool(1, 60, 1);
+
+        WebDriver first = pool.borrow();
+        pool.invalidate(first);
+        assertEquals(1, created.get(0).quitCount);
+        assertEquals(0, pool.getIdleCount());
+
+        WebDriver second = pool.borrow();
+        assertNotSame(first, second);
+        pool.release(second);
+    }
+
+    @Test
+    void expiredSessionIsRecycledOnRelease() throws Exception {
+        // maxAge 0분 -> 반납하는 순간 이미 오래된 세션
+        WebDriverPool pool = pool(1, 0, 1);
+
+        WebDriver first = pool.borrow();
+        pool.release(first);
+        assertEquals(1, created.get(0).quitCount);
+        assertEquals(0, pool.getIdleCount());
+
+        WebDriver second = pool.borrow();
+        assertNotSame(first, second);
+        assertEquals(2, created.size());
+        pool.release(second);
+    }
+
+    @Test
+    void borrowIsBoundedByPoolSize() throws Exception {
+        WebDriverPool pool = pool(1, 60, 0);
+
+        WebDriver first = pool.borrow();
+        assertThrows(IllegalStateException.class, pool::borrow);
+        assertEquals(1, created.size());
+
+        pool.release(first);
+        WebDriver second = pool.borrow();
+        assertSame(first, second);
+        pool.release(second);
+    }
+
+    @Test
+    void waitingBorrowGetsReleasedSession() throws Exception {
+        WebDriverPool pool = pool(1, 60, 5);
+
+        WebDriver first = pool.borrow();
+        AtomicReference<WebDriver> borrowed = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try {
+                borrowed.set(pool.borrow());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                done.countDown();
+            }
+        });
+        waiter.start();
+
+        // 세마포어에 막혀서 아직 못 빌림
+        assertTrue(!done.await(200, TimeUnit.MILLISECONDS));
+        pool.release(first);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertSame(first, borrowed.get());
+        assertEquals(1, created.size());
+        pool.release(borrowed.get());
+    }
+
+    // getWindowHandle, quit 만 흉내내는 가짜 드라이버
+    private static class StubDriver {
+        private boolean alive = true;
+        private int quitCount = 0;
+        private final WebDriver driver = (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(),
+                new Class<?>[] { WebDriver.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getWindowHandle":
+                            if (!alive) {
+                                throw new IllegalStateException("세션 종료됨");
+                            }
+                            return "stub-window";
+                        case "quit":
+                            quitCount++;
+                            alive = false;
+                            return null;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "StubDriver";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+// 일정/스코어보드 날짜 조건이 game_date 인덱스를 타는지 EXPLAIN 으로 확인
+// (game_date 에 LEFT / SUBSTRING / LIKE 를 씌우던 예전 쿼리로 돌아가면 실패)
+class MapperQueryPlanTest {
+
+    private static final String NAMESPACE = "com.example.mapper.Mappers.";
+    private static final String[] TEAMS = { "KIA", "삼성", "LG", "두산", "KT", "SSG", "롯데", "한화", "NC", "키움" };
+
+    private static TestDatabase database;
+    private static Connection connection;
+    private static Configuration configuration;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        database = TestDatabase.start();
+        connection = database.getConnection();
+        configuration = TestDatabase.mapperConfiguration();
+        insertSeasons(2022, 2024);
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        connection.close();
+        database.close();
+    }
+
+    // 3시즌, 하루 5경기 (3월 시범, 4~9월 정규, 10월 포스트)
+    private static void insertSeasons(int fromYear, int toYear) throws SQLException {
+        String schedule = "INSERT INTO schedule (game_date, day_of_the_week, season, away, home, away_score, home_score, ground, etc) "
+                + "VALUES (?, '화', ?, ?, ?, '3', '4', '잠실', '-')";
+        String scoreboard = "INSERT INTO scoreboard (game_date, season, ground, away_team, away_runs, home_team, home_runs) "
+                + "VALUES (?, ?, '잠실', ?, '3', ?, '4')";
+        try (PreparedStatement ps = connection.prepareStatement(schedule);
+             PreparedStatement sb = connection.prepareStatement(scoreboard)) {
+            for (int year = fromYear; year <= toYear; year++) {
+                for (LocalDate day = LocalDate.of(year, 3, 23); !day.isAfter(LocalDate.of(year, 10, 31)); day = day.plusDays(1)) {
+                    String season = day.getMonthValue() == 3 ? "시범" : day.getMonthValue() == 10 ? "포스트" : "정규";
+                    Timestamp gameDate = Timestamp.valueOf(LocalDateTime.of(day, LocalTime.of(18, 30)));
+                    for (int game = 0; game < 5; game++) {
+                        ps.setTimestamp(1, gameDate);
+                        ps.setString(2, season);
+                        ps.setString(3, TEAMS[game * 2]);
+                        ps.setString(4, TEAMS[game * 2 + 1]);
+                        ps.addBatch();
+                        sb.setTimestamp(1, gameDate);
+                        sb.setString(2, season);
+                        sb.setString(3, TEAMS[game * 2]);
+                        sb.setString(4, TEAMS[game * 2 + 1]);
+                        sb.addBatch();
+                    }
+                }
+            }
+            ps.executeBatch();
+            sb.executeBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE schedule, scoreboard");
+        }
+    }
+
+    @Test
+    void monthlyRegularResultsUseSeasonDateIndex() throws SQLException {
+        Map<String, String> plan = explain("selectAllResults", Map.of("year", 2024, "month", 9));
+
+        assertEquals("schedule", plan.get("table"));
+        assertEquals("range", plan.get("type"));
+        assertTrue(Set.of("idx_schedule_season_game_date", "uk_schedule_game").contains(plan.get("key")), plan.toString());
+    }
+
+    @Test
+    void monthlyPostResultsUseSeasonDateIndex() throws SQLException {
+        Map<String, String> plan = explain("selectPostResults", Map.of("year", 2024, "month", 10));
+
+        assertEquals("range", plan.get("type"));
+        assertTrue(Set.of("idx_schedule_season_game_date", "uk_schedule_game").contains(plan.get("key")), plan.toString());
+    }
+
+    @Test
+    void mainScheduleUsesGameDateKey() throws SQLException {
+        Map<String, String> plan = explain("selectMainSchedule", Map.of("gameDate", "2024-09-11"));
+
+        assertEquals("range", plan.get("type"));
+        assertEquals("uk_schedule_game", plan.get("key"), plan.toString());
+    }
+
+    @Test
+    void dailyScoreBoardUsesGameDateKey() throws SQLException {
+        Map<String, String> plan = explain("selectAllScoreBoard", Map.of("gameDate", "2024-09-11"));
+
+        assertEquals("scoreboard", plan.get("table"));
+        assertEquals("range", plan.get("type"));
+        assertEquals("uk_scoreboard_game", plan.get("key"), plan.toString());
+    }
+
+    @Test
+    void functionOnGameDateIsFullScan() throws SQLException {
+        // 예전 쿼리 (검사가 실제로 의미가 있는지 확인용)
+        Map<String, String> plan = explainSql("SELECT * FROM scoreboard WHERE LEFT(game_date, 10) = ?", List.of("2024-09-11"));
+
+        assertEquals("ALL", plan.get("type"));
+    }
+
+    @Test
+    void rangeQueriesReturnTheDay() throws SQLException {
+        // 범위로 바꾼 조건이 예전과 같은 행을 고르는지 (경계 포함/제외)
+        assertEquals(5, count("selectMainSchedule", Map.of("gameDate", "2024-09-11")));
+        assertEquals(5, count("selectAllScoreBoard", Map.of("gameDate", "2024-09-11")));
+        assertEquals(30 * 5, count("selectAllResults", Map.of("year", 2024, "month", 9)));
+        assertEquals(31 * 5, count("selectPostResults", Map.of("year", 2024, "month", 10)));
+        assertEquals(0, count("selectAllResults", Map.of("year", 2024, "month", 10)));
+    }
+
+    private Map<String, String> explain(String statementId, Map<String, Object> params) throws SQLException {
+        BoundSql bound = configuration.getMappedStatement(NAMESPACE + statementId).getBoundSql(params);
+        return explainSql(bound.getSql(), values(bound, params));
+    }
+
+    private int count(String statementId, Map<String, Object> params) throws SQLException {
+        BoundSql bound = configuration.getMappedStatement(NAMESPACE + statementId).getBoundSql(params);
+        try (PreparedStatement ps = prepare(bound.getSql(), values(bound, params));
+             ResultSet rs = ps.executeQuery()) {
+            int rows = 0;
+            while (rs.next()) {
+                rows++;
+            }
+            return rows;
+        }
+    }
+
+    private Map<String, String> explainSql(String sql, List<Object> values) throws SQLException {
+        try (PreparedStatement ps = prepare("EXPLAIN " + sql, values);
+             ResultSet rs = ps.executeQuery()) {
+            assertTrue(rs.next());
+            Map<String, String> plan = new HashMap<>();
+            plan.put("table", rs.getString("table"));
+            plan.put("type", rs.getString("type"));
+            plan.put("key", rs.getString("key"));
+            plan.put("rows", rs.getString("rows"));
+            return plan;
+        }
+    }
+
+    private static List<Object> values(BoundSql bound, Map<String, Object> params) {
+        return bound.getParameterMappings().stream()
+                .map(ParameterMapping::getProperty)
+                .map(params::get)
+                .toList();
+    }
+
+    private static PreparedStatement prepare(String sql, List<Object> values) throws SQLException {
+        String trimmed = sql.trim();
+        if (trimmed.endsWith(";")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        PreparedStatement ps = connection.prepareStatement(trimmed);
+        for (int i = 0; i < values.size(); i++) {
+            ps.setObject(i + 1, values.get(i));
+        }
+        return ps;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.mapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+// 테스트용 내장 MariaDB (MySQL 호환)
+// schema.sql + db/migration 을 적용한 빈 DB 를 띄우고, mappers.xml 을 읽은 MyBatis 설정을 만들어 줌
+public final class TestDatabase implements AutoCloseable {
+
+    public static final String DB_NAME = "baseball";
+
+    // 일정/스코어보드 테이블에 적용하는 마이그레이션 (V4 는 기록 테이블이라 제외)
+    private static final String[] MIGRATIONS = {
+            "V1__crawling_scoreboard_sum_game_key.sql",
+            "V2__scoreboard_game_key.sql",
+            "V3__game_fingerprint.sql",
+            "V5__schedule_season_date_index.sql",
+            "V6__derived_result_columns.sql",
+            "V7__scoreboard_status.sql",
+    };
+
+    private final DB db;
+    private final String url;
+
+    private TestDatabase(DB db, String url) {
+        this.db = db;
+        this.url = url;
+    }
+
+    public static TestDatabase start() throws Exception {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0); // 비어있는 포트 사용
+        config.addArg("--character-set-server=utf8mb4");
+        DB db = DB.newEmbeddedDB(config.build());
+        db.start();
+        db.createDB(DB_NAME);
+        TestDatabase database = new TestDatabase(db, config.getURL(DB_NAME));
+
+        try (Connection connection = database.getConnection()) {
+            database.runScript(connection, TestDatabase.class, "schema.sql");
+            for (String migration : MIGRATIONS) {
+                database.runScript(connection, TestDatabase.class, "/db/migration/" + migration);
+            }
+        }
+        return database;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Connection getConnection() throws SQLException {
+        return DriverManager.getConnection(url, "root", "");
+    }
+
+    // mappers.xml 을 읽은 MyBatis 설정 (쿼리 문자열과 파라미터 순서 확인용)
+    public static Configuration mapperConfiguration() throws IOException {
+        Configuration configuration = new Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.getTypeAliasRegistry().registerAliases("com.example.records.model");
+        try (InputStream in = Mappers.class.getResourceAsStream("mappers.xml")) {
+            new XMLMapperBuilder(in, configuration, "mappers.xml", configuration.getSqlFragments()).parse();
+        }
+        return configuration;
+    }
+
+    // 이 DB 에 붙는 MyBatis 세션 (매퍼를 실제로 실행하는 테스트용, session.getMapper(Mappers.class))
+    public SqlSessionFactory sqlSessionFactory() throws IOException, SQLException {
+        Configuration configuration = mapperConfiguration();
+        String driver = DriverManager.getDriver(url).getClass().getName();
+        configuration.setEnvironment(new Environment("test", new JdbcTransactionFactory(),
+                new UnpooledDataSource(driver, url, "root", "")));
+        return new SqlSessionFactoryBuilder().build(configuration);
+    }
+
+    // ";" 로 끝나는 문장 단위로 실행 ("--" 주석 줄은 건너뜀)
+    public void runScript(Connection connection, Class<?> base, String resource) throws IOException, SQLException {
+        String script;
+        try (InputStream in = base.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("스크립트 없음: " + resource);
+            }
+            script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : script.split("\r?\n")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                continue;
+            }
+            current.append(line).append('\n');
+            if (trimmed.endsWith(";")) {
+                statements.add(current.substring(0, current.lastIndexOf(";")));
+                current.setLength(0);
+            }
+        }
+        if (current.toString().trim().length() > 0) {
+            statements.add(current.toString());
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        db.stop();
+    }
+}
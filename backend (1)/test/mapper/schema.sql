@@ -0,0 +1,47 @@
+-- 테스트용 기본 테이블 (운영 DB 에 처음부터 있던 테이블 중 일정/스코어보드 관련만)
+-- 이 위에 db/migration 의 V1 ~ V7 (V4 기록 테이블 제외) 을 그대로 적용
+CREATE TABLE crawling_scoreboard_sum (
+    date VARCHAR(20),
+    ground_time VARCHAR(20),
+    pitcher VARCHAR(200),
+    awayteam VARCHAR(20),
+    hometeam VARCHAR(20)
+) DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE schedule (
+    game_date DATETIME,
+    day_of_the_week VARCHAR(5),
+    season VARCHAR(10),
+    away VARCHAR(20),
+    home VARCHAR(20),
+    away_score VARCHAR(5),
+    home_score VARCHAR(5),
+    ground VARCHAR(20),
+    etc VARCHAR(50),
+    winning_pitcher VARCHAR(50),
+    losing_pitcher VARCHAR(50)
+) DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE scoreboard (
+    game_date DATETIME,
+    season VARCHAR(10),
+    ground VARCHAR(20),
+    away_team VARCHAR(20),
+    away_inning1 VARCHAR(3), away_inning2 VARCHAR(3), away_inning3 VARCHAR(3), away_inning4 VARCHAR(3), away_inning5 VARCHAR(3),
+    away_inning6 VARCHAR(3), away_inning7 VARCHAR(3), away_inning8 VARCHAR(3), away_inning9 VARCHAR(3), away_inning10 VARCHAR(3),
+    away_inning11 VARCHAR(3), away_inning12 VARCHAR(3), away_inning13 VARCHAR(3), away_inning14 VARCHAR(3), away_inning15 VARCHAR(3),
+    away_runs VARCHAR(3),
+    away_hits VARCHAR(3),
+    away_errors VARCHAR(3),
+    away_balls VARCHAR(3),
+    away_pitcher VARCHAR(50),
+    home_team VARCHAR(20),
+    home_inning1 VARCHAR(3), home_inning2 VARCHAR(3), home_inning3 VARCHAR(3), home_inning4 VARCHAR(3), home_inning5 VARCHAR(3),
+    home_inning6 VARCHAR(3), home_inning7 VARCHAR(3), home_inning8 VARCHAR(3), home_inning9 VARCHAR(3), home_inning10 VARCHAR(3),
+    home_inning11 VARCHAR(3), home_inning12 VARCHAR(3), home_inning13 VARCHAR(3), home_inning14 VARCHAR(3), home_inning15 VARCHAR(3),
+    home_runs VARCHAR(3),
+    home_hits VARCHAR(3),
+    home_errors VARCHAR(3),
+    home_balls VARCHAR(3),
+    home_pitcher VARCHAR(50)
+) DEFAULT CHARSET=utf8mb4;
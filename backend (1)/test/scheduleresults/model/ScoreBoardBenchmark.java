@@ -0,0 +1,78 @@
+package com.example.scheduleresults.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 하루치 스코어보드 (5경기) 기준 String 필드 48개 (LegacyScoreBoard) 와 short 배열 (ScoreBoard) 비교
+// - map*       : DB 행 -> 객체 (MyBatis 처럼 setter 호출), gc 프로파일러의 gc.alloc.rate.norm 이 한 번에 할당하는 바이트
+// - serialize* : 객체 -> JSON 바이트 (Jackson 기본 직렬화 vs ScoreBoardSerializer)
+// 실행 : main() (GCProfiler 포함), 두 결과의 JSON 이 같은지는 ScoreBoardSerializerTest 에서 확인
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoreBoardBenchmark {
+
+	private ScoreBoardRows.Mapping<LegacyScoreBoard> legacyMapping;
+	private ScoreBoardRows.Mapping<ScoreBoard> scoreBoardMapping;
+	private List<LegacyScoreBoard> legacyDay;
+	private List<ScoreBoard> scoreBoardDay;
+	private ObjectMapper objectMapper;
+
+	@Setup
+	public void setUp() {
+		legacyMapping = ScoreBoardRows.legacyMapping();
+		scoreBoardMapping = ScoreBoardRows.scoreBoardMapping();
+		legacyDay = legacyMapping.mapDay();
+		scoreBoardDay = scoreBoardMapping.mapDay();
+		objectMapper = new ObjectMapper();
+	}
+
+	@Benchmark
+	public List<LegacyScoreBoard> mapLegacy() {
+		return legacyMapping.mapDay();
+	}
+
+	@Benchmark
+	public List<ScoreBoard> mapScoreBoard() {
+		return scoreBoardMapping.mapDay();
+	}
+
+	@Benchmark
+	public byte[] serializeLegacy() throws Exception {
+		return objectMapper.writeValueAsBytes(legacyDay);
+	}
+
+	@Benchmark
+	public byte[] serializeScoreBoard() throws Exception {
+		return objectMapper.writeValueAsBytes(scoreBoardDay);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(ScoreBoardBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,134 @@
+package com.example.scheduleresults.model;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 하루치 스코어보드 (5경기) 를 DB 컬럼 문자열 그대로 들고 있다가
+// MyBatis 처럼 컬럼 이름에 맞는 setter 를 찾아서 ScoreBoard / LegacyScoreBoard 를 채움
+final class ScoreBoardRows {
+
+	// game_date 를 뺀 컬럼 (프로퍼티 이름, 예전 필드 순서)
+	static final String[] COLUMNS = columns();
+
+	static final LocalDateTime GAME_TIME = LocalDateTime.of(2024, 9, 11, 18, 30);
+
+	// 종료(9회말 X) / 연장 11회 / 12회 무승부 / 콜드게임 / 두 자리 점수
+	static final String[][] DAY = {
+		row("광주", "경기종료", "롯데", "패", "0 0 1 0 0 0 2 0 0 - - -", "3 8 1 3", "박세웅",
+				"KIA", "승", "1 0 0 2 0 1 0 0 X - - -", "4 10 0 4", "양현종"),
+		row("문학", "경기종료", "키움", "승", "0 1 0 0 0 2 0 0 1 0 2 -", "6 11 1 5", "주승우",
+				"SSG", "패", "2 0 0 0 1 0 0 1 0 0 0 -", "4 9 2 6", "노경은"),
+		row("수원", "경기종료", "한화", "무", "0 2 0 0 1 0 0 2 0 0 0 0", "5 9 0 4", "",
+				"KT", "무", "1 0 0 3 0 0 0 1 0 0 0 0", "5 11 1 6", ""),
+		row("잠실", "경기종료", "LG", "패", "0 0 0 0 0 - - - - - - -", "0 2 0 1", "임찬규",
+				"두산", "승", "1 0 0 0 X - - - - - - -", "1 3 0 0", "곽빈"),
+		row("대구", "경기종료", "NC", "패", "0 3 0 0 0 1 0 0 0 - - -", "4 9 2 3", "하트",
+				"삼성", "승", "2 0 10 0 0 0 0 1 X - - -", "13 17 0 7", "원태인"),
+	};
+
+	private ScoreBoardRows() {
+	}
+
+	private static String[] columns() {
+		List<String> columns = new ArrayList<>();
+		for (String side : new String[] { "away", "home" }) {
+			columns.add(side + "Team");
+			columns.add(side + "WinOrLose");
+			for (int i = 1; i <= ScoreBoard.INNINGS; i++) {
+				columns.add(side + "Inning" + i);
+			}
+			columns.add(side + "Runs");
+			columns.add(side + "Hits");
+			columns.add(side + "Errors");
+			columns.add(side + "Balls");
+			columns.add(side + "Pitcher");
+		}
+		columns.add(0, "status");
+		columns.add(0, "ground");
+		return columns.toArray(new String[0]);
+	}
+
+	// 이닝은 공백으로 구분 (적힌 것보다 뒤 이닝은 null = 빈 칸), 투수 "" 는 null
+	private static String[] row(String ground, String status,
+			String awayTeam, String awayResult, String awayInnings, String awayRhe, String awayPitcher,
+			String homeTeam, String homeResult, String homeInnings, String homeRhe, String homePitcher) {
+		List<String> values = new ArrayList<>();
+		values.add(ground);
+		values.add(status);
+		side(values, awayTeam, awayResult, awayInnings, awayRhe, awayPitcher);
+		side(values, homeTeam, homeResult, homeInnings, homeRhe, homePitcher);
+		return values.toArray(new String[0]);
+	}
+
+	private static void side(List<String> values, String team, String result, String innings, String rhe, String pitcher) {
+		values.add(team);
+		values.add(result);
+		String[] cells = innings.split(" ");
+		for (int i = 0; i < ScoreBoard.INNINGS; i++) {
+			values.add(i < cells.length ? cells[i] : null);
+		}
+		for (String cell : rhe.split(" ")) {
+			values.add(cell);
+		}
+		values.add(pitcher.isEmpty() ? null : pitcher);
+	}
+
+	static Mapping<ScoreBoard> scoreBoardMapping() {
+		return new Mapping<>(ScoreBoard.class, ScoreBoard::new, LocalDateTime.class, time -> time);
+	}
+
+	static Mapping<LegacyScoreBoard> legacyMapping() {
+		return new Mapping<>(LegacyScoreBoard.class, LegacyScoreBoard::new, Date.class,
+				time -> Date.from(time.atZone(ZoneId.systemDefault()).toInstant()));
+	}
+
+	// 컬럼 -> setter (한 번만 찾아 두고 행마다 호출)
+	static final class Mapping<T> {
+		private final Supplier<T> factory;
+		private final Method gameDateSetter;
+		private final Function<LocalDateTime, Object> gameDateValue;
+		private final Method[] setters = new Method[COLUMNS.length];
+
+		Mapping(Class<T> type, Supplier<T> factory, Class<?> gameDateType, Function<LocalDateTime, Object> gameDateValue) {
+			this.factory = factory;
+			this.gameDateValue = gameDateValue;
+			try {
+				this.gameDateSetter = type.getMethod("setGameDate", gameDateType);
+				for (int i = 0; i < COLUMNS.length; i++) {
+					String column = COLUMNS[i];
+					setters[i] = type.getMethod("set" + Character.toUpperCase(column.charAt(0)) + column.substring(1), String.class);
+				}
+			} catch (NoSuchMethodException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		T map(LocalDateTime gameDate, String[] row) {
+			T value = factory.get();
+			try {
+				gameDateSetter.invoke(value, gameDateValue.apply(gameDate));
+				for (int i = 0; i < setters.length; i++) {
+					setters[i].invoke(value, row[i]);
+				}
+			} catch (IllegalAccessException | InvocationTargetException e) {
+				throw new IllegalStateException(e);
+			}
+			return value;
+		}
+
+		List<T> mapDay() {
+			List<T> day = new ArrayList<>(DAY.length);
+			for (String[] row : DAY) {
+				day.add(map(GAME_TIME, row));
+			}
+			return day;
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package com.example.scheduleresults.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// ScoreBoard JSON 이 String 필드 시절과 같은 이름/순서/값인지 확인
+class ScoreBoardSerializerTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void fieldNamesAndOrderMatchBaseline() throws Exception {
+		ScoreBoard game = ScoreBoardRows.scoreBoardMapping().map(ScoreBoardRows.GAME_TIME, ScoreBoardRows.DAY[0]);
+
+		LinkedHashMap<String, Object> json = objectMapper.readValue(objectMapper.writeValueAsString(game),
+				new TypeReference<LinkedHashMap<String, Object>>() { });
+
+		List<String> expected = new ArrayList<>(List.of("gameDate", "time", "ground", "status", "awayTeam", "awayWinOrLose"));
+		for (int i = 1; i <= 15; i++) {
+			expected.add("awayInning" + i);
+		}
+		expected.addAll(List.of("awayRuns", "awayHits", "awayErrors", "awayBalls", "awayPitcher", "homeTeam", "homeWinOrLose"));
+		for (int i = 1; i <= 15; i++) {
+			expected.add("homeInning" + i);
+		}
+		expected.addAll(List.of("homeRuns", "homeHits", "homeErrors", "homeBalls", "homePitcher"));
+		assertEquals(expected, new ArrayList<>(json.keySet()));
+	}
+
+	@Test
+	void valuesMatchBaseline() throws Exception {
+		ScoreBoard game = ScoreBoardRows.scoreBoardMapping().map(ScoreBoardRows.GAME_TIME, ScoreBoardRows.DAY[0]);
+
+		assertEquals("{\"gameDate\":\"2024-09-11\",\"time\":\"18:30\",\"ground\":\"광주\",\"status\":\"경기종료\","
+				+ "\"awayTeam\":\"롯데\",\"awayWinOrLose\":\"패\","
+				+ "\"awayInning1\":\"0\",\"awayInning2\":\"0\",\"awayInning3\":\"1\",\"awayInning4\":\"0\",\"awayInning5\":\"0\","
+				+ "\"awayInning6\":\"0\",\"awayInning7\":\"2\",\"awayInning8\":\"0\",\"awayInning9\":\"0\",\"awayInning10\":\"-\","
+				+ "\"awayInning11\":\"-\",\"awayInning12\":\"-\",\"awayInning13\":null,\"awayInning14\":null,\"awayInning15\":null,"
+				+ "\"awayRuns\":\"3\",\"awayHits\":\"8\",\"awayErrors\":\"1\",\"awayBalls\":\"3\",\"awayPitcher\":\"박세웅\","
+				+ "\"homeTeam\":\"KIA\",\"homeWinOrLose\":\"승\","
+				+ "\"homeInning1\":\"1\",\"homeInning2\":\"0\",\"homeInning3\":\"0\",\"homeInning4\":\"2\",\"homeInning5\":\"0\","
+				+ "\"homeInning6\":\"1\",\"homeInning7\":\"0\",\"homeInning8\":\"0\",\"homeInning9\":\"X\",\"homeInning10\":\"-\","
+				+ "\"homeInning11\":\"-\",\"homeInning12\":\"-\",\"homeInning13\":null,\"homeInning14\":null,\"homeInning15\":null,"
+				+ "\"homeRuns\":\"4\",\"homeHits\":\"10\",\"homeErrors\":\"0\",\"homeBalls\":\"4\",\"homePitcher\":\"양현종\"}",
+				objectMapper.writeValueAsString(game));
+	}
+
+	@Test
+	void wholeDayMatchesLegacyBean() throws Exception {
+		// 예전 String 필드 클래스를 Jackson 기본 직렬화한 결과와 글자 하나까지 같아야 함
+		assertEquals(objectMapper.writeValueAsString(ScoreBoardRows.legacyMapping().mapDay()),
+				objectMapper.writeValueAsString(ScoreBoardRows.scoreBoardMapping().mapDay()));
+	}
+
+	@Test
+	void unusualCellsAndNullsAreKept() throws Exception {
+		ScoreBoard game = new ScoreBoard();
+		game.setGameDate(LocalDateTime.of(2024, 9, 11, 14, 0));
+		game.setAwayInning1("05");
+		game.setAwayInning2("ㅡ");
+		game.setAwayRuns("120");
+		game.setHomeInning1("");
+
+		LegacyScoreBoard legacy = new LegacyScoreBoard();
+		legacy.setGameDate(Timestamp.valueOf(LocalDateTime.of(2024, 9, 11, 14, 0)));
+		legacy.setAwayInning1("05");
+		legacy.setAwayInning2("ㅡ");
+		legacy.setAwayRuns("120");
+		legacy.setHomeInning1("");
+
+		assertEquals(objectMapper.writeValueAsString(legacy), objectMapper.writeValueAsString(game));
+	}
+}
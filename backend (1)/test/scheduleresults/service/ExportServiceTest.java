@@ -0,0 +1,224 @@
+package com.example.scheduleresults.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.mapper.Mappers;
+import com.example.mapper.TestDatabase;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 내장 DB 에 시즌 하나를 넣고 커서로 끝까지 내보내는지 (행 수, 기간/시즌 조건, CSV 따옴표 처리)
+class ExportServiceTest {
+
+	private static final String[] TEAMS = { "KIA", "삼성", "LG", "두산", "KT", "SSG", "롯데", "한화", "NC", "키움" };
+	private static final LocalDate FROM = LocalDate.of(2024, 4, 1);
+	private static final LocalDate TO = LocalDate.of(2024, 5, 1);
+	// 4월 30일 x 하루 5경기
+	private static final int APRIL_GAMES = 30 * 5;
+
+	// 쉼표, 따옴표, 줄바꿈이 모두 들어간 값 (2024-04-15 첫 경기)
+	private static final LocalDateTime TRICKY_GAME = LocalDateTime.of(2024, 4, 15, 18, 30);
+	private static final String TRICKY_ETC = "우천 중단 \"30분\", 재개\n7회 콜드";
+	private static final String TRICKY_PITCHER = "김,민\"수\"";
+
+	private static final ObjectMapper objectMapper = new ObjectMapper();
+
+	private static TestDatabase database;
+	private static SqlSession session;
+	private static ExportService exportService;
+
+	@BeforeAll
+	static void setUp() throws Exception {
+		database = TestDatabase.start();
+		try (Connection connection = database.getConnection()) {
+			insertGames(connection, LocalDate.of(2024, 3, 23), LocalDate.of(2024, 5, 10));
+		}
+		session = database.sqlSessionFactory().openSession();
+		exportService = new ExportService();
+		ReflectionTestUtils.setField(exportService, "mapper", session.getMapper(Mappers.class));
+		ReflectionTestUtils.setField(exportService, "objectMapper", objectMapper);
+	}
+
+	@AfterAll
+	static void tearDown() throws Exception {
+		session.close();
+		database.close();
+	}
+
+	// 하루 5경기 (3월 시범, 4월부터 정규), 기간 앞뒤에도 행을 넣어서 경계 확인
+	private static void insertGames(Connection connection, LocalDate from, LocalDate to) throws SQLException {
+		String schedule = "INSERT INTO schedule (game_date, day_of_the_week, season, away, home, away_score, home_score, ground, etc, "
+				+ "winning_pitcher, losing_pitcher) VALUES (?, '화', ?, ?, ?, '3', '4', '잠실', ?, '승_원태인_삼성', '패_임찬규_LG')";
+		String scoreboard = "INSERT INTO scoreboard (game_date, season, ground, away_team, away_inning1, away_runs, away_pitcher, "
+				+ "home_team, home_inning1, home_runs, home_pitcher) VALUES (?, ?, '잠실', ?, '3', '3', ?, ?, '4', '4', '원태인')";
+		try (PreparedStatement ps = connection.prepareStatement(schedule);
+			 PreparedStatement sb = connection.prepareStatement(scoreboard)) {
+			for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+				String season = day.getMonthValue() == 3 ? "시범" : "정규";
+				LocalDateTime gameDate = LocalDateTime.of(day, LocalTime.of(18, 30));
+				for (int game = 0; game < 5; game++) {
+					boolean tricky = game == 0 && gameDate.equals(TRICKY_GAME);
+					ps.setTimestamp(1, Timestamp.valueOf(gameDate));
+					ps.setString(2, season);
+					ps.setString(3, TEAMS[game * 2]);
+					ps.setString(4, TEAMS[game * 2 + 1]);
+					ps.setString(5, tricky ? TRICKY_ETC : "-");
+					ps.addBatch();
+					sb.setTimestamp(1, Timestamp.valueOf(gameDate));
+					sb.setString(2, season);
+					sb.setString(3, TEAMS[game * 2]);
+					sb.setString(4, tricky ? TRICKY_PITCHER : "임찬규");
+					sb.setString(5, TEAMS[game * 2 + 1]);
+					sb.addBatch();
+				}
+			}
+			ps.executeBatch();
+			sb.executeBatch();
+		}
+	}
+
+	@Test
+	void scheduleNdjsonStreamsSeason() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		int rows = exportService.exportSchedule(FROM, TO, "정규", ExportService.NDJSON, out);
+
+		assertEquals(APRIL_GAMES, rows);
+		String text = out.toString(StandardCharsets.UTF_8);
+		assertTrue(text.endsWith("\n"));
+		// 값 안의 줄바꿈은 JSON 에서 \n 으로 바뀌므로 줄 수 = 행 수
+		String[] lines = text.split("\n");
+		assertEquals(APRIL_GAMES, lines.length);
+		assertEquals("2024-04-01", objectMapper.readTree(lines[0]).get("gameDate").asText());
+		assertEquals("2024-04-30", objectMapper.readTree(lines[lines.length - 1]).get("gameDate").asText());
+
+		int tricky = 0;
+		for (String line : lines) {
+			JsonNode game = objectMapper.readTree(line);
+			assertEquals("정규", game.get("season").asText());
+			if (TRICKY_ETC.equals(game.get("etc").asText())) {
+				tricky++;
+			}
+		}
+		assertEquals(1, tricky);
+	}
+
+	@Test
+	void scheduleCsvQuotesValues() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		int rows = exportService.exportSchedule(FROM, TO, "정규", ExportService.CSV, out);
+
+		assertEquals(APRIL_GAMES, rows);
+		String text = out.toString(StandardCharsets.UTF_8);
+		assertTrue(text.startsWith("\uFEFFgameDate,time,dayOfTheWeek,season,away,home,"), text.substring(0, 60));
+		// 따옴표는 두 번, 전체는 따옴표로 감쌈, 줄바꿈은 그대로
+		assertTrue(text.contains(",\"우천 중단 \"\"30분\"\", 재개\n7회 콜드\","), "quoted etc");
+
+		List<List<String>> records = parseCsv(text.substring(1));
+		assertEquals(APRIL_GAMES + 1, records.size());
+		int columns = records.get(0).size();
+		int tricky = 0;
+		for (List<String> record : records.subList(1, records.size())) {
+			assertEquals(columns, record.size());
+			assertEquals("정규", record.get(3));
+			if (TRICKY_ETC.equals(record.get(9))) {
+				tricky++;
+				assertEquals("2024-04-15", record.get(0));
+				assertEquals("KIA", record.get(4));
+			}
+		}
+		assertEquals(1, tricky);
+	}
+
+	@Test
+	void scoreBoardCsvStreamsSeason() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		int rows = exportService.exportScoreBoard(FROM, TO, "정규", ExportService.CSV, out);
+
+		assertEquals(APRIL_GAMES, rows);
+		List<List<String>> records = parseCsv(out.toString(StandardCharsets.UTF_8).substring(1));
+		assertEquals(APRIL_GAMES + 1, records.size());
+		List<String> header = records.get(0);
+		int awayPitcher = header.indexOf("awayPitcher");
+		int homeRuns = header.indexOf("homeRuns");
+		int tricky = 0;
+		for (List<String> record : records.subList(1, records.size())) {
+			assertEquals(header.size(), record.size());
+			assertEquals("4", record.get(homeRuns));
+			if (TRICKY_PITCHER.equals(record.get(awayPitcher))) {
+				tricky++;
+			}
+		}
+		assertEquals(1, tricky);
+	}
+
+	@Test
+	void rangeAndSeasonConditions() throws Exception {
+		LocalDate march = LocalDate.of(2024, 3, 1);
+		LocalDate june = LocalDate.of(2024, 6, 1);
+
+		// 3/23 ~ 3/31 시범 9일
+		assertEquals(9 * 5, exportService.exportSchedule(march, june, "시범", ExportService.CSV, new ByteArrayOutputStream()));
+		// season 이 null 이면 전체 (3/23 ~ 5/10, 49일)
+		assertEquals(49 * 5, exportService.exportSchedule(march, june, null, ExportService.NDJSON, new ByteArrayOutputStream()));
+		assertEquals(49 * 5, exportService.exportScoreBoard(march, june, null, ExportService.NDJSON, new ByteArrayOutputStream()));
+		// to 는 포함하지 않음 (5/1 경기 제외)
+		assertEquals(5, exportService.exportSchedule(LocalDate.of(2024, 4, 30), TO, null, ExportService.CSV, new ByteArrayOutputStream()));
+	}
+
+	// RFC 4180 (따옴표 안의 쉼표/줄바꿈, "" -> ") 레코드 단위로 나눔, 레코드 끝은 CRLF
+	private static List<List<String>> parseCsv(String text) {
+		List<List<String>> records = new ArrayList<>();
+		List<String> record = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (quoted) {
+				if (c != '"') {
+					field.append(c);
+				} else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+					field.append('"');
+					i++;
+				} else {
+					quoted = false;
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				record.add(field.toString());
+				field.setLength(0);
+			} else if (c == '\r' && i + 1 < text.length() && text.charAt(i + 1) == '\n') {
+				i++;
+				record.add(field.toString());
+				field.setLength(0);
+				records.add(record);
+				record = new ArrayList<>();
+			} else {
+				field.append(c);
+			}
+		}
+		return records;
+	}
+}
@@ -0,0 +1,243 @@
+package com.example.scheduleresults.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.crawling.GameSnapshot;
+import com.example.crawling.ScoreboardDiff;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 구독자별 대기열 확인 (SSE 없이 Subscriber 구현을 직접 등록)
+class ScoreboardBroadcasterTest {
+
+	private ScoreboardBroadcaster broadcaster;
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@BeforeEach
+	void setUp() {
+		broadcaster = new ScoreboardBroadcaster();
+		ReflectionTestUtils.setField(broadcaster, "objectMapper", new ObjectMapper());
+		ReflectionTestUtils.setField(broadcaster, "queueSize", 4);
+		ReflectionTestUtils.setField(broadcaster, "sendTimeoutMs", 10000L);
+		ReflectionTestUtils.setField(broadcaster, "senderThreads", 2);
+		ReflectionTestUtils.setField(broadcaster, "senderQueueSize", 8);
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		broadcaster.shutdown();
+	}
+
+	// 받은 이벤트를 쌓아 두는 구독자
+	private static class Recording implements ScoreboardBroadcaster.Subscriber {
+		final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+		final CountDownLatch closed = new CountDownLatch(1);
+
+		@Override
+		public void send(String event, String data) throws IOException {
+			events.add(event + " " + data);
+		}
+
+		@Override
+		public void close() {
+			closed.countDown();
+		}
+
+		String next() throws InterruptedException {
+			return events.poll(5, TimeUnit.SECONDS);
+		}
+	}
+
+	// 첫 send 에서 release 될 때까지 멈춰 있는 구독자 (응답을 안 읽는 브라우저)
+	private class Stuck extends Recording {
+		final CountDownLatch sending = new CountDownLatch(1);
+
+		@Override
+		public void send(String event, String data) throws IOException {
+			sending.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			super.send(event, data);
+		}
+	}
+
+	private static GameSnapshot game() {
+		GameSnapshot.Builder b = GameSnapshot.builder()
+				.date("2024.09.11(수)")
+				.groundTime("잠실 18:30")
+				.awayTeam("LG")
+				.homeTeam("두산");
+		for (String cell : List.of("0", "2", "", "", "", "", "", "", "", "2", "3", "0", "1")) {
+			b.awayCell(cell);
+		}
+		for (String cell : List.of("1", "", "", "", "", "", "", "", "", "1", "2", "0", "0")) {
+			b.homeCell(cell);
+		}
+		return b.build();
+	}
+
+	@Test
+	void stuckSubscriberDoesNotBlockOthers() throws Exception {
+		Stuck stuck = new Stuck();
+		Recording fast = new Recording();
+		broadcaster.addSubscriber(stuck);
+		broadcaster.addSubscriber(fast);
+
+		broadcaster.heartbeat();
+		assertTrue(stuck.sending.await(5, TimeUnit.SECONDS));
+		broadcaster.heartbeat();
+		broadcaster.heartbeat();
+
+		assertEquals("ping {}", fast.next());
+		assertEquals("ping {}", fast.next());
+		assertEquals("ping {}", fast.next());
+		assertEquals(2, broadcaster.getSubscriberCount());
+
+		// 풀리면 밀린 이벤트를 순서대로 받음
+		release.countDown();
+		assertEquals("ping {}", stuck.next());
+		assertEquals("ping {}", stuck.next());
+		assertEquals("ping {}", stuck.next());
+	}
+
+	@Test
+	void subscriberWhoseQueueOverflowsIsDroppedAndClosed() throws Exception {
+		Stuck stuck = new Stuck();
+		Recording fast = new Recording();
+		broadcaster.addSubscriber(stuck);
+		broadcaster.addSubscriber(fast);
+
+		broadcaster.heartbeat();
+		assertTrue(stuck.sending.await(5, TimeUnit.SECONDS));
+		assertEquals("ping {}", fast.next());
+		// 전송 중 1건 + 대기열 4건까지는 버팀, 그 다음에 넘침 (빠른 구독자는 그때그때 비움)
+		for (int i = 0; i < 5; i++) {
+			broadcaster.heartbeat();
+			assertEquals("ping {}", fast.next());
+		}
+
+		assertEquals(1, broadcaster.getSubscriberCount());
+		assertEquals(1, fast.closed.getCount());
+		// 멈춘 send 가 끝나면 그 전송 스레드가 닫음 (닫으려고 스레드를 더 쓰지 않음)
+		assertEquals(1, stuck.closed.getCount());
+		release.countDown();
+		assertTrue(stuck.closed.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void failingSubscriberIsDroppedAndClosed() throws Exception {
+		Recording broken = new Recording() {
+			@Override
+			public void send(String event, String data) throws IOException {
+				throw new IOException("Broken pipe");
+			}
+		};
+		Recording fast = new Recording();
+		broadcaster.addSubscriber(broken);
+		broadcaster.addSubscriber(fast);
+
+		broadcaster.heartbeat();
+
+		assertTrue(broken.closed.await(5, TimeUnit.SECONDS));
+		assertEquals("ping {}", fast.next());
+		assertEquals(1, broadcaster.getSubscriberCount());
+	}
+
+	@Test
+	void sendThatTakesTooLongIsDroppedOnHeartbeat() throws Exception {
+		ReflectionTestUtils.setField(broadcaster, "sendTimeoutMs", 50L);
+		Stuck stuck = new Stuck();
+		broadcaster.addSubscriber(stuck);
+
+		broadcaster.heartbeat();
+		assertTrue(stuck.sending.await(5, TimeUnit.SECONDS));
+		Thread.sleep(100);
+		broadcaster.heartbeat();
+
+		assertEquals(0, broadcaster.getSubscriberCount());
+		release.countDown();
+		assertTrue(stuck.closed.await(5, TimeUnit.SECONDS));
+		// 빠진 뒤에 들어온 ping 은 보내지 않음
+		assertEquals("ping {}", stuck.next());
+		assertNull(stuck.events.poll(200, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	void subscriberIsDroppedWhenSenderPoolIsFull() throws Exception {
+		// 스레드 1개, 대기 작업 1개
+		ReflectionTestUtils.setField(broadcaster, "senderThreads", 1);
+		ReflectionTestUtils.setField(broadcaster, "senderQueueSize", 1);
+		Stuck stuck = new Stuck();
+		Recording waiting = new Recording();
+		Recording rejected = new Recording();
+		broadcaster.addSubscriber(stuck);
+		broadcaster.heartbeat();
+		assertTrue(stuck.sending.await(5, TimeUnit.SECONDS));
+		broadcaster.addSubscriber(waiting);
+		broadcaster.addSubscriber(rejected);
+
+		broadcaster.heartbeat();
+
+		// 스레드는 멈춘 구독자가, 대기 자리는 waiting 이 차지해서 rejected 는 바로 빠지고 닫힘
+		assertTrue(rejected.closed.await(5, TimeUnit.SECONDS));
+		assertEquals(2, broadcaster.getSubscriberCount());
+		release.countDown();
+		assertEquals("ping {}", waiting.next());
+		assertEquals(1, waiting.closed.getCount());
+	}
+
+	@Test
+	void publishSendsChangedCellsOnce() throws Exception {
+		Recording first = new Recording();
+		Recording second = new Recording();
+		broadcaster.addSubscriber(first);
+		broadcaster.addSubscriber(second);
+
+		GameSnapshot before = game();
+		GameSnapshot after = GameSnapshot.builder()
+				.date("2024.09.11(수)")
+				.groundTime("잠실 18:30")
+				.awayTeam("LG")
+				.homeTeam("두산")
+				.awayCell("0").awayCell("2").awayCell("1").awayCell("").awayCell("").awayCell("").awayCell("").awayCell("").awayCell("")
+				.awayCell("3").awayCell("4").awayCell("0").awayCell("1")
+				.homeCell("1").homeCell("").homeCell("").homeCell("").homeCell("").homeCell("").homeCell("").homeCell("").homeCell("")
+				.homeCell("1").homeCell("2").homeCell("0").homeCell("0")
+				.build();
+		broadcaster.publish(ScoreboardDiff.between(before, after));
+
+		String expected = "score {\"gameDate\":\"2024-09-11\",\"time\":\"18:30\",\"awayTeam\":\"LG\",\"homeTeam\":\"두산\","
+				+ "\"changes\":{\"awayInning3\":\"1\",\"awayRuns\":\"3\",\"awayHits\":\"4\"}}";
+		assertEquals(expected, first.next());
+		assertEquals(expected, second.next());
+	}
+
+	@Test
+	void removedSubscriberGetsNothing() throws Exception {
+		Recording gone = new Recording();
+		broadcaster.addSubscriber(gone);
+		broadcaster.removeSubscriber(gone);
+
+		broadcaster.heartbeat();
+
+		assertEquals(0, broadcaster.getSubscriberCount());
+		assertNull(gone.events.poll(200, TimeUnit.MILLISECONDS));
+	}
+}